@@ -0,0 +1,64 @@
+package com.datingapp.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Interest;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+
+/**
+ * Seeded, reproducible users for benchmarks.
+ * Users are scattered around a city centre with a Gaussian spread, so radius
+ * queries see realistic density falling off with distance.
+ */
+final class BenchmarkFixtures {
+    static final Location CITY_CENTRE = new Location(40.7128, -74.0060);
+    static final long SEED = 42L;
+
+    private static final double SPREAD_DEGREES = 0.25; // ~28 km standard deviation
+    private static final Interest[] INTERESTS = Interest.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<User> population(int size) {
+        Random random = new Random(SEED);
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(user(random, "user" + i));
+        }
+        return users;
+    }
+
+    static User user(Random random, String username) {
+        UserId id = UserId.generate();
+        Location location = new Location(
+                clamp(CITY_CENTRE.lat() + random.nextGaussian() * SPREAD_DEGREES, -90, 90),
+                clamp(CITY_CENTRE.lon() + random.nextGaussian() * SPREAD_DEGREES, -180, 180));
+        Set<Interest> interests = EnumSet.noneOf(Interest.class);
+        for (int j = 0; j < 3; j++) {
+            interests.add(INTERESTS[random.nextInt(INTERESTS.length)]);
+        }
+        Profile profile = new Profile(id, username, "Bio",
+                LocalDate.of(1975 + random.nextInt(30), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                interests,
+                new Preferences(Set.of("ALL"), AgeRange.of(18, 60), Distance.ofKilometers(100)),
+                location,
+                List.of("photo.jpg"));
+        return new User(id, username, profile);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,78 @@
+package com.datingapp.benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.User;
+import com.datingapp.domain.repository.UserRepository;
+import com.datingapp.infrastructure.persistence.columnar.ColumnarUserRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+import com.datingapp.infrastructure.persistence.offheap.OffHeapUserRepository;
+import com.datingapp.loadgen.PopulationGenerator;
+
+/**
+ * Radius query over a large in-memory population for each user store: the
+ * heap map of Users, off-heap records and the columnar discovery table.
+ *
+ * The population spans several cities, so most of each scan is spent
+ * rejecting far-away users - the part the stores lay out differently.
+ *
+ * Run with: mvn -Pbenchmarks verify -Djmh.include=DiscoveryScanBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiscoveryScanBenchmark {
+    private static final int POPULATION = 100_000;
+    private static final Distance RADIUS = Distance.ofKilometers(10);
+    private static final int LIMIT = 100;
+    private static final int CENTRES = 1024;
+
+    @Param({ "heap", "offheap", "columnar" })
+    public String store;
+
+    private UserRepository users;
+    private Location[] centres;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        users = switch (store) {
+            case "offheap" -> new OffHeapUserRepository(POPULATION);
+            case "columnar" -> new ColumnarUserRepository(new InMemoryUserRepository(), POPULATION);
+            default -> new InMemoryUserRepository();
+        };
+        PopulationGenerator generator = new PopulationGenerator(BenchmarkFixtures.SEED);
+        generator.populate(users, POPULATION, saved -> {
+        });
+
+        SplittableRandom random = new SplittableRandom(BenchmarkFixtures.SEED);
+        centres = new Location[CENTRES];
+        for (int i = 0; i < CENTRES; i++) {
+            centres[i] = generator.user(random.nextInt(POPULATION)).getProfile().location();
+        }
+    }
+
+    @Benchmark
+    public List<User> findDiscoverableInRadius() {
+        return users.findDiscoverableInRadius(centres[cursor++ & (CENTRES - 1)], RADIUS, LIMIT);
+    }
+}
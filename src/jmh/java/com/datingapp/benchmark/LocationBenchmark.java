@@ -0,0 +1,50 @@
+package com.datingapp.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+
+/**
+ * Haversine distance between two points, the innermost call of every radius
+ * filter and distance score.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocationBenchmark {
+    private static final int POINTS = 1024;
+
+    private Location[] points;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        points = new Location[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = new Location(random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180);
+        }
+    }
+
+    @Benchmark
+    public Distance distanceTo() {
+        int i = cursor++ & (POINTS - 1);
+        return points[i].distanceTo(points[(i + 1) & (POINTS - 1)]);
+    }
+}
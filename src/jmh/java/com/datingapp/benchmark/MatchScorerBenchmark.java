@@ -0,0 +1,60 @@
+package com.datingapp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.User;
+import com.datingapp.domain.matching.DistanceStrategy;
+import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchStrategy;
+
+/**
+ * Cost of scoring one candidate as the number of composed strategies grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchScorerBenchmark {
+
+    @Param({ "1", "3", "5" })
+    public int strategyCount;
+
+    private MatchScorer scorer;
+    private User[] candidates;
+    private User requester;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<MatchStrategy> strategies = new ArrayList<>();
+        for (int i = 0; i < strategyCount; i++) {
+            strategies.add(new DistanceStrategy(Distance.ofKilometers(50 + i * 25)));
+        }
+        scorer = new MatchScorer(strategies);
+        List<User> population = BenchmarkFixtures.population(1024);
+        requester = population.get(0);
+        candidates = population.toArray(User[]::new);
+    }
+
+    @Benchmark
+    public double score() {
+        return scorer.score(candidates[cursor++ & (candidates.length - 1)], requester);
+    }
+}
@@ -0,0 +1,119 @@
+package com.datingapp.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Match;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.matching.DistanceStrategy;
+import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+/**
+ * MatchingService hot paths over the in-memory repositories.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchingServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Discovery {
+        @Param({ "1000", "10000", "100000" })
+        public int populationSize;
+
+        @Param({ "10", "50" })
+        public double radiusKm;
+
+        @Param({ "0", "1000" })
+        public int exclusionSize;
+
+        MatchingService service;
+        User requester;
+        Distance radius;
+        Set<UserId> excluded;
+
+        @Setup
+        public void setUp() {
+            InMemoryUserRepository users = new InMemoryUserRepository();
+            List<User> population = BenchmarkFixtures.population(populationSize);
+            population.forEach(users::save);
+            service = newService(users, new InMemorySwipeRepository(), new InMemoryMatchRepository());
+            requester = population.get(0);
+            radius = Distance.ofKilometers(radiusKm);
+
+            Random random = new Random(BenchmarkFixtures.SEED);
+            excluded = new HashSet<>();
+            while (excluded.size() < Math.min(exclusionSize, populationSize - 1)) {
+                excluded.add(population.get(1 + random.nextInt(populationSize - 1)).getId());
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Swiping {
+        private static final int USERS = 4096;
+
+        MatchingService service;
+        UserId[] userIds;
+        Random random;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            // Fresh swipe/match stores per iteration so repository size stays bounded
+            service = newService(new InMemoryUserRepository(), new InMemorySwipeRepository(),
+                    new InMemoryMatchRepository());
+            userIds = new UserId[USERS];
+            for (int i = 0; i < USERS; i++) {
+                userIds[i] = UserId.generate();
+            }
+            random = new Random(BenchmarkFixtures.SEED);
+        }
+    }
+
+    @Benchmark
+    public List<Prospect> findProspects(Discovery state) {
+        return state.service.findProspects(state.requester, state.radius, 20, state.excluded);
+    }
+
+    @Benchmark
+    public Optional<Match> processSwipe(Swiping state) {
+        int swiper = state.random.nextInt(Swiping.USERS);
+        int target = (swiper + 1 + state.random.nextInt(Swiping.USERS - 1)) % Swiping.USERS;
+        return state.service.processSwipe(state.userIds[swiper], state.userIds[target],
+                state.random.nextBoolean() ? SwipeDirection.LIKE : SwipeDirection.DISLIKE);
+    }
+
+    private static MatchingService newService(InMemoryUserRepository users, InMemorySwipeRepository swipes,
+            InMemoryMatchRepository matches) {
+        MatchScorer scorer = new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100))));
+        return new MatchingService(scorer, users, swipes, matches, event -> {
+        });
+    }
+}
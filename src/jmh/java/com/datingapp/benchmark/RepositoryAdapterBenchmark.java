@@ -0,0 +1,174 @@
+package com.datingapp.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.datingapp.DatingApplication;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Match;
+import com.datingapp.domain.Swipe;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.MatchRepository;
+import com.datingapp.domain.repository.SwipeRepository;
+import com.datingapp.domain.repository.UserRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+import com.datingapp.infrastructure.persistence.jpa.JpaMatchRepository;
+import com.datingapp.infrastructure.persistence.jpa.JpaSwipeRepository;
+import com.datingapp.infrastructure.persistence.jpa.JpaUserRepository;
+
+/**
+ * Same repository workload against the in-memory adapters and the JPA adapters
+ * on H2 in PostgreSQL mode, so mapping and Hibernate session overhead show up
+ * next to the baseline.
+ *
+ * Throughput mode gives ops/us; sample-time mode reports p50/p99/p999 latency.
+ * The JPA adapters are used directly, without the caching decorator. Each call
+ * runs in its own transaction, as it would outside a service boundary.
+ *
+ * Run with: mvn -Pbenchmarks verify -Djmh.include=RepositoryAdapterBenchmark
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryAdapterBenchmark {
+
+    private static final int POPULATION = 2_000;
+    private static final int SWIPES_PER_USER = 20;
+    private static final int MATCHES_PER_USER = 3;
+    private static final Distance RADIUS = Distance.ofKilometers(25);
+    private static final int RADIUS_LIMIT = 50;
+
+    @Param({ "inmemory", "jpa" })
+    public String adapter;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository users;
+    private SwipeRepository swipes;
+    private MatchRepository matches;
+    private List<User> population;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        if ("jpa".equals(adapter)) {
+            context = startH2Context();
+            users = context.getBean(JpaUserRepository.class);
+            swipes = context.getBean(JpaSwipeRepository.class);
+            matches = context.getBean(JpaMatchRepository.class);
+        } else {
+            users = new InMemoryUserRepository();
+            swipes = new InMemorySwipeRepository();
+            matches = new InMemoryMatchRepository();
+        }
+        seed();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Swipe saveSwipe() {
+        UserId swiper = randomUser().getId();
+        UserId target = otherUser(swiper).getId();
+        return swipes.saveIfNotExists(Swipe.create(swiper, target,
+                random.nextBoolean() ? SwipeDirection.LIKE : SwipeDirection.DISLIKE));
+    }
+
+    @Benchmark
+    public Optional<Swipe> findByPair() {
+        UserId swiper = randomUser().getId();
+        return swipes.findByPair(swiper, otherUser(swiper).getId());
+    }
+
+    @Benchmark
+    public Set<UserId> findSwipedUserIds() {
+        return swipes.findSwipedUserIds(randomUser().getId());
+    }
+
+    @Benchmark
+    public Set<UserId> findPendingLikersFor() {
+        return swipes.findPendingLikersFor(randomUser().getId());
+    }
+
+    @Benchmark
+    public List<Match> findMatchesByUser() {
+        return matches.findByUser(randomUser().getId());
+    }
+
+    @Benchmark
+    public List<User> findDiscoverableInRadius() {
+        return users.findDiscoverableInRadius(randomUser().getProfile().location(), RADIUS, RADIUS_LIMIT);
+    }
+
+    private void seed() {
+        population = BenchmarkFixtures.population(POPULATION);
+        random = new Random(BenchmarkFixtures.SEED);
+        population.forEach(users::save);
+        for (User user : population) {
+            for (int i = 0; i < SWIPES_PER_USER; i++) {
+                swipes.saveIfNotExists(Swipe.create(user.getId(), otherUser(user.getId()).getId(),
+                        random.nextBoolean() ? SwipeDirection.LIKE : SwipeDirection.DISLIKE));
+            }
+            for (int i = 0; i < MATCHES_PER_USER; i++) {
+                matches.saveIfNotExists(Match.create(user.getId(), otherUser(user.getId()).getId()));
+            }
+        }
+    }
+
+    private User randomUser() {
+        return population.get(random.nextInt(POPULATION));
+    }
+
+    private User otherUser(UserId id) {
+        User other;
+        do {
+            other = randomUser();
+        } while (other.getId().equals(id));
+        return other;
+    }
+
+    private static ConfigurableApplicationContext startH2Context() {
+        return new SpringApplicationBuilder(DatingApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:adapters;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.datingapp=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+    }
+}
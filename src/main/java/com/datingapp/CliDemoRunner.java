@@ -1,16 +1,36 @@
 package com.datingapp;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.datingapp.infrastructure.metrics.MetricsReporter;
 import com.datingapp.infrastructure.persistence.jpa.SpringDataMatchRepository;
+import com.datingapp.infrastructure.persistence.jpa.SpringDataSwipeRepository;
 import com.datingapp.infrastructure.persistence.jpa.SpringDataUserRepository;
+import com.datingapp.infrastructure.persistence.jpa.UserEntity;
+import com.datingapp.infrastructure.persistence.profiling.QueryProfile;
+import com.datingapp.infrastructure.persistence.profiling.QueryProfiler;
+
+import jakarta.persistence.EntityManager;
 
 /**
  * CLI demo runner - prints database stats to terminal.
+ *
+ * Statistics are aggregated by the database; the user listing streams through
+ * a cursor and clears the persistence context after every page, so memory use
+ * does not grow with the size of the users table.
  */
 @Component
 @Profile("cli")
@@ -20,12 +40,37 @@ public class CliDemoRunner implements CommandLineRunner {
     private static final String SEPARATOR = "═══════════════════════════════════════════════════════════════";
 
     private final SpringDataUserRepository userRepository;
+    private final SpringDataSwipeRepository swipeRepository;
     private final SpringDataMatchRepository matchRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MetricsReporter metricsReporter;
+    private final ObjectProvider<QueryProfiler> queryProfiler;
+    private final int topQueries;
+    private final int pageSize;
+    private final Duration matchHistory;
 
     public CliDemoRunner(SpringDataUserRepository userRepository,
-            SpringDataMatchRepository matchRepository) {
+            SpringDataSwipeRepository swipeRepository,
+            SpringDataMatchRepository matchRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MetricsReporter metricsReporter,
+            ObjectProvider<QueryProfiler> queryProfiler,
+            @Value("${datingapp.query-profiling.top-n:10}") int topQueries,
+            @Value("${datingapp.cli.page-size:500}") int pageSize,
+            @Value("${datingapp.cli.match-history:14d}") Duration matchHistory) {
         this.userRepository = userRepository;
+        this.swipeRepository = swipeRepository;
         this.matchRepository = matchRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.metricsReporter = metricsReporter;
+        this.queryProfiler = queryProfiler;
+        this.topQueries = topQueries;
+        this.pageSize = pageSize;
+        this.matchHistory = matchHistory;
     }
 
     @Override
@@ -36,23 +81,70 @@ public class CliDemoRunner implements CommandLineRunner {
         logger.info(SEPARATOR);
         logger.info("");
 
-        long userCount = userRepository.count();
-        long matchCount = matchRepository.count();
+        logStatistics();
 
-        logger.info("DATABASE STATISTICS:");
-        logger.info("   Users:   {}", userCount);
-        logger.info("   Matches: {}", matchCount);
         logger.info("");
+        logger.info("USERS:");
+        long listed = readOnlyTransaction.execute(status -> listUsers());
+        if (listed == 0) {
+            logger.info("   Database is empty.");
+        }
 
-        if (userCount == 0) {
-            logger.info("Database is empty.");
+        logger.info("");
+        logger.info("METRICS:");
+        List<String> metrics = metricsReporter.report();
+        if (metrics.isEmpty()) {
+            logger.info("   No matching or repository calls recorded yet.");
         } else {
-            logger.info("USERS:");
-            userRepository.findAll().forEach(user -> logger.info("   - {}", user.getUsername()));
+            metrics.forEach(line -> logger.info("   {}", line));
         }
 
+        queryProfiler.ifAvailable(this::logTopQueries);
+
         logger.info("");
         logger.info("Application started successfully!");
         logger.info(SEPARATOR);
     }
+
+    private void logStatistics() {
+        logger.info("DATABASE STATISTICS:");
+        logger.info("   Users by state:");
+        userRepository.countByState()
+                .forEach(row -> logger.info("      {} {}", String.format("%-12s", row.getState()), row.getCount()));
+        logger.info("   Swipes by direction:");
+        swipeRepository.countByDirection()
+                .forEach(row -> logger.info("      {} {}", String.format("%-12s", row.getDirection()), row.getCount()));
+        logger.info("   Matches per day (last {} days):", matchHistory.toDays());
+        matchRepository.countPerDaySince(Instant.now().minus(matchHistory))
+                .forEach(row -> logger.info("      {}   {}", row.getDay(), row.getCount()));
+    }
+
+    private long listUsers() {
+        long listed = 0;
+        try (Stream<UserEntity> users = userRepository.streamAllByOrderByUsernameAsc()) {
+            for (UserEntity user : (Iterable<UserEntity>) users::iterator) {
+                logger.info("   - {}", user.getUsername());
+                if (++listed % pageSize == 0) {
+                    // Detach the page just printed so the persistence context stays small
+                    entityManager.clear();
+                }
+            }
+        }
+        return listed;
+    }
+
+    private void logTopQueries(QueryProfiler profiler) {
+        logger.info("");
+        logger.info("TOP {} QUERIES BY TOTAL TIME:", topQueries);
+        List<QueryProfile> profiles = profiler.top(topQueries);
+        if (profiles.isEmpty()) {
+            logger.info("   No queries executed yet.");
+        }
+        for (QueryProfile profile : profiles) {
+            logger.info("   {} ms total | {} calls | {} ms mean | {} ms max | {} rows",
+                    profile.totalMillis(), profile.executions(), String.format("%.2f", profile.meanMillis()),
+                    profile.maxMillis(), profile.rows());
+            logger.info("      {}", profile.query().strip().replaceAll("\\s+", " "));
+        }
+    }
 }
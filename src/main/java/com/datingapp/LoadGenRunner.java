@@ -0,0 +1,133 @@
+package com.datingapp;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.event.EventPublisher;
+import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchingMetrics;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.domain.repository.MatchRepository;
+import com.datingapp.domain.repository.SwipeRepository;
+import com.datingapp.domain.repository.UserRepository;
+import com.datingapp.infrastructure.metrics.MetricsReporter;
+import com.datingapp.infrastructure.persistence.columnar.ColumnarUserRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+import com.datingapp.infrastructure.persistence.offheap.OffHeapUserRepository;
+import com.datingapp.loadgen.LatencyHistogram;
+import com.datingapp.loadgen.LoadGenerator;
+import com.datingapp.loadgen.LoadReport;
+import com.datingapp.loadgen.LoadSettings;
+import com.datingapp.loadgen.PopulationGenerator;
+
+/**
+ * Load generation runner - seeds a synthetic population, then drives
+ * discovery + swipe sessions at a target rate and prints the results.
+ *
+ * Usage:
+ * --spring.profiles.active=loadgen [--datingapp.loadgen.users=1000000]
+ * [--datingapp.loadgen.sessions-per-second=500] [--datingapp.loadgen.duration=60s]
+ * [--datingapp.loadgen.in-memory=true [--datingapp.loadgen.user-store=heap|off-heap|columnar]]
+ */
+@Component
+@Profile("loadgen")
+public class LoadGenRunner implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenRunner.class);
+    private static final String SEPARATOR = "═══════════════════════════════════════════════════════════════";
+
+    private final LoadSettings settings;
+    private final UserRepository userRepository;
+    private final SwipeRepository swipeRepository;
+    private final MatchingService matchingService;
+    private final MetricsReporter metricsReporter;
+
+    public LoadGenRunner(MatchScorer matchScorer,
+            UserRepository userRepository,
+            SwipeRepository swipeRepository,
+            MatchRepository matchRepository,
+            EventPublisher eventPublisher,
+            MatchingMetrics matchingMetrics,
+            MetricsReporter metricsReporter,
+            @Value("${datingapp.loadgen.users:100000}") int users,
+            @Value("${datingapp.loadgen.seed:42}") long seed,
+            @Value("${datingapp.loadgen.sessions-per-second:200}") double sessionsPerSecond,
+            @Value("${datingapp.loadgen.duration:30s}") Duration duration,
+            @Value("${datingapp.loadgen.swipes-per-session:20}") int swipesPerSession,
+            @Value("${datingapp.loadgen.zipf-exponent:1.1}") double zipfExponent,
+            @Value("${datingapp.loadgen.in-memory:false}") boolean inMemory,
+            @Value("${datingapp.loadgen.user-store:heap}") String userStore) {
+        this.settings = new LoadSettings(users, seed, sessionsPerSecond, duration, swipesPerSession, zipfExponent);
+        if (inMemory) {
+            // Isolates domain cost from database cost
+            userRepository = switch (userStore) {
+                case "off-heap" -> new OffHeapUserRepository(users);
+                case "columnar" -> new ColumnarUserRepository(new InMemoryUserRepository(), users);
+                case "heap" -> new InMemoryUserRepository();
+                default -> throw new IllegalArgumentException("Unknown user store: " + userStore);
+            };
+            swipeRepository = new InMemorySwipeRepository();
+            matchRepository = new InMemoryMatchRepository();
+        }
+        this.userRepository = userRepository;
+        this.swipeRepository = swipeRepository;
+        this.matchingService = new MatchingService(matchScorer, userRepository, swipeRepository, matchRepository,
+                eventPublisher, matchingMetrics);
+        this.metricsReporter = metricsReporter;
+    }
+
+    @Override
+    public void run(String... args) {
+        logger.info("Generating {} users (seed {})", settings.users(), settings.seed());
+        long started = System.nanoTime();
+        UserId[] population = new PopulationGenerator(settings.seed()).populate(userRepository, settings.users(),
+                saved -> logger.info("   {} users saved", saved));
+        logger.info("Population ready in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        logger.info("Driving {} sessions/s for {} ({} swipes per session)",
+                settings.sessionsPerSecond(), settings.duration(), settings.swipesPerSession());
+        LoadGenerator generator = new LoadGenerator(matchingService, userRepository, swipeRepository);
+        LoadReport report = generator.run(population, settings);
+
+        logger.info("");
+        logger.info(SEPARATOR);
+        logger.info("LOAD GENERATION RESULTS ({} ms)", report.elapsed().toMillis());
+        logger.info("   Sessions:   {} ({} /s)", report.sessions(), Math.round(report.sessionsPerSecond()));
+        logger.info("   Empty:      {} ({}% found no prospects)", report.emptySessions(),
+                String.format("%.2f", report.emptySessionRate() * 100));
+        logger.info("   Swipes:     {} ({} /s)", report.swipes(), Math.round(report.swipesPerSecond()));
+        logger.info("   Likes:      {}", report.likes());
+        logger.info("   Matches:    {} ({}% of likes)", report.matches(),
+                String.format("%.2f", report.matchRate() * 100));
+        logger.info("   Errors:     {}", report.errors());
+        generator.firstError().ifPresent(e -> logger.warn("   First error:", e));
+        logger.info("");
+        logger.info("LATENCY (ms)         count       p50       p90       p99      p999       max");
+        logHistogram("findProspects", report.discoveryLatency());
+        logHistogram("processSwipe", report.swipeLatency());
+        logHistogram("session", report.sessionLatency());
+        logger.info("");
+        logger.info("METRICS:");
+        metricsReporter.report().forEach(line -> logger.info("   {}", line));
+        logger.info(SEPARATOR);
+    }
+
+    private static void logHistogram(String name, LatencyHistogram histogram) {
+        logger.info(String.format("   %-14s %9d %9.2f %9.2f %9.2f %9.2f %9.2f", name, histogram.count(),
+                histogram.percentileMicros(50) / 1000.0,
+                histogram.percentileMicros(90) / 1000.0,
+                histogram.percentileMicros(99) / 1000.0,
+                histogram.percentileMicros(99.9) / 1000.0,
+                histogram.maxMicros() / 1000.0));
+    }
+}
@@ -0,0 +1,49 @@
+package com.datingapp;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.datingapp.infrastructure.persistence.jdbc.ImportProgress;
+import com.datingapp.infrastructure.persistence.jdbc.UserBulkImporter;
+
+/**
+ * Bulk user import runner - streams a CSV / JSON-lines file into the database.
+ *
+ * Usage:
+ * --spring.profiles.active=import --datingapp.import.file=users.csv [--datingapp.import.chunk-size=5000]
+ */
+@Component
+@Profile("import")
+public class UserImportRunner implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportRunner.class);
+
+    private final UserBulkImporter importer;
+    private final Path file;
+    private final int chunkSize;
+
+    public UserImportRunner(UserBulkImporter importer,
+            @Value("${datingapp.import.file}") Path file,
+            @Value("${datingapp.import.chunk-size:5000}") int chunkSize) {
+        this.importer = importer;
+        this.file = file;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        logger.info("Importing users from {} in chunks of {}", file, chunkSize);
+
+        ImportProgress result = importer.importFile(file, chunkSize, progress -> logger.info(
+                "   {} users imported ({} rows/s)", progress.rows(), Math.round(progress.rowsPerSecond())));
+
+        logger.info("Import finished: {} users in {} ms ({} rows/s)",
+                result.rows(), result.elapsed().toMillis(), Math.round(result.rowsPerSecond()));
+    }
+}
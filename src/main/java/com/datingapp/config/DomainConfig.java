@@ -1,18 +1,27 @@
 package com.datingapp.config;
 
+import java.time.Duration;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.datingapp.domain.Distance;
 import com.datingapp.domain.event.EventPublisher;
+import com.datingapp.domain.matching.DiscoveryOrchestrator;
 import com.datingapp.domain.matching.DistanceStrategy;
 import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchingMetrics;
 import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.domain.matching.ProspectQueues;
 import com.datingapp.domain.repository.MatchRepository;
 import com.datingapp.domain.repository.SwipeRepository;
 import com.datingapp.domain.repository.UserRepository;
+import com.datingapp.infrastructure.cache.ProspectCache;
+import com.datingapp.infrastructure.cache.SingleFlight;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class DomainConfig {
@@ -30,12 +39,53 @@ public class DomainConfig {
             UserRepository userRepository,
             SwipeRepository swipeRepository,
             MatchRepository matchRepository,
-            EventPublisher eventPublisher) {
+            EventPublisher eventPublisher,
+            MatchingMetrics matchingMetrics) {
         return new MatchingService(
                 matchScorer,
                 userRepository,
                 swipeRepository,
                 matchRepository,
-                eventPublisher);
+                eventPublisher,
+                matchingMetrics);
+    }
+
+    @Bean
+    public DiscoveryOrchestrator discoveryOrchestrator(
+            ProspectQueues prospectQueues,
+            SwipeRepository swipeRepository,
+            MatchRepository matchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${datingapp.discovery.feed-deadline:500ms}") Duration deadline,
+            @Value("${datingapp.discovery.coalescing.max-in-flight:1000}") int maxInFlight) {
+        return new DiscoveryOrchestrator(prospectQueues, swipeRepository, matchRepository, deadline,
+                new SingleFlight<>(maxInFlight, meterRegistry, "datingapp.discovery.coalescing"));
+    }
+
+    @Bean
+    public ProspectQueues prospectQueues(
+            MatchingService matchingService,
+            ProspectCache prospectCache,
+            UserRepository userRepository,
+            SwipeRepository swipeRepository,
+            @Value("${datingapp.discovery.queue.batch-size:50}") int batchSize,
+            @Value("${datingapp.discovery.queue.low-water-mark:10}") int lowWaterMark,
+            @Value("${datingapp.discovery.queue.move-tolerance-km:1}") double moveToleranceKm,
+            @Value("${datingapp.discovery.queue.max-users:10000}") int maxUsers) {
+        return new ProspectQueues(matchingService, prospectCache, userRepository, swipeRepository, batchSize,
+                lowWaterMark, Distance.ofKilometers(moveToleranceKm), maxUsers);
+    }
+
+    @Bean
+    public ProspectCache prospectCache(
+            MatchingService matchingService,
+            MeterRegistry meterRegistry,
+            @Value("${datingapp.cache.prospects.max-size:5000}") int maxSize,
+            @Value("${datingapp.cache.prospects.ttl:30s}") Duration ttl,
+            @Value("${datingapp.cache.prospects.max-page-size:200}") int maxPageSize,
+            @Value("${datingapp.cache.prospects.radius-bucket-km:5}") double radiusBucketKm,
+            @Value("${datingapp.cache.prospects.cell-degrees:0.01}") double cellDegrees) {
+        return new ProspectCache(matchingService, maxSize, ttl, maxPageSize,
+                Distance.ofKilometers(radiusBucketKm), cellDegrees, meterRegistry);
     }
 }
@@ -0,0 +1,36 @@
+package com.datingapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.datingapp.domain.matching.MatchingMetrics;
+import com.datingapp.infrastructure.metrics.MetricsReporter;
+import com.datingapp.infrastructure.metrics.MicrometerMatchingMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * In-process Micrometer registry plus the metrics adapters built on it.
+ * A registry contributed elsewhere (e.g. by a monitoring backend) takes precedence.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(MeterRegistry.class)
+    public SimpleMeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public MatchingMetrics matchingMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerMatchingMetrics(meterRegistry);
+    }
+
+    @Bean
+    public MetricsReporter metricsReporter(MeterRegistry meterRegistry) {
+        return new MetricsReporter(meterRegistry);
+    }
+}
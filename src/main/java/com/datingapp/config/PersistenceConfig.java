@@ -0,0 +1,76 @@
+package com.datingapp.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.datingapp.domain.event.EventPublisher;
+import com.datingapp.infrastructure.cache.CachingUserRepository;
+import com.datingapp.infrastructure.events.EventPublishingUserRepository;
+import com.datingapp.infrastructure.metrics.MeteredMatchRepository;
+import com.datingapp.infrastructure.metrics.MeteredSwipeRepository;
+import com.datingapp.infrastructure.metrics.MeteredUserRepository;
+import com.datingapp.infrastructure.persistence.jpa.JpaMatchRepository;
+import com.datingapp.infrastructure.persistence.jpa.JpaSwipeRepository;
+import com.datingapp.infrastructure.persistence.jpa.JpaUserRepository;
+import com.datingapp.infrastructure.persistence.routing.ReadYourWrites;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wires the domain repository ports that are decorated on top of the JPA adapters.
+ * Users: metered -> event publishing -> cached -> JPA. Swipes and matches: metered -> JPA.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    /**
+     * Recent writers whose reads stay on the primary; only consulted when a
+     * read replica is configured (see ReplicaRoutingConfig).
+     */
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Value("${datingapp.datasource.replica.max-lag:2s}") Duration maxReplicaLag,
+            @Value("${datingapp.datasource.replica.max-tracked-writers:100000}") int maxTrackedWriters) {
+        return new ReadYourWrites(maxReplicaLag, maxTrackedWriters);
+    }
+
+    @Bean
+    public CachingUserRepository cachingUserRepository(
+            JpaUserRepository jpaUserRepository,
+            @Value("${datingapp.cache.users.max-size:10000}") int maxSize,
+            @Value("${datingapp.cache.users.ttl:5m}") Duration ttl) {
+        return new CachingUserRepository(jpaUserRepository, maxSize, ttl);
+    }
+
+    @Bean
+    public EventPublishingUserRepository eventPublishingUserRepository(
+            CachingUserRepository cachingUserRepository,
+            EventPublisher eventPublisher) {
+        return new EventPublishingUserRepository(cachingUserRepository, eventPublisher);
+    }
+
+    @Bean
+    @Primary
+    public MeteredUserRepository meteredUserRepository(EventPublishingUserRepository eventPublishingUserRepository,
+            MeterRegistry meterRegistry) {
+        return new MeteredUserRepository(eventPublishingUserRepository, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public MeteredSwipeRepository meteredSwipeRepository(JpaSwipeRepository jpaSwipeRepository,
+            MeterRegistry meterRegistry) {
+        return new MeteredSwipeRepository(jpaSwipeRepository, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public MeteredMatchRepository meteredMatchRepository(JpaMatchRepository jpaMatchRepository,
+            MeterRegistry meterRegistry) {
+        return new MeteredMatchRepository(jpaMatchRepository, meterRegistry);
+    }
+}
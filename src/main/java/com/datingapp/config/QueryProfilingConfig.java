@@ -0,0 +1,55 @@
+package com.datingapp.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+
+import com.datingapp.infrastructure.persistence.profiling.QueryProfiler;
+import com.datingapp.infrastructure.persistence.profiling.SlowQueryLoggingDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Query profiling: Hibernate statistics per query plus a slow-query log with
+ * bound parameter types (values with datingapp.query-profiling.log-parameter-values=true).
+ * Active only when datingapp.query-profiling.enabled=true.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datingapp.query-profiling.enabled", havingValue = "true")
+public class QueryProfilingConfig {
+
+    // Eager even under lazy initialisation: statistics only cover queries run after it exists
+    @Bean
+    @Lazy(false)
+    public QueryProfiler queryProfiler(EntityManagerFactory entityManagerFactory) {
+        return new QueryProfiler(entityManagerFactory);
+    }
+
+    /**
+     * Wraps the application DataSource - the pool, or the replica router when
+     * one is configured - so each statement is timed exactly once.
+     */
+    @Bean
+    public static BeanPostProcessor slowQueryLoggingPostProcessor(Environment environment) {
+        Duration threshold = environment.getProperty("datingapp.query-profiling.slow-threshold",
+                Duration.class, Duration.ofMillis(100));
+        boolean logParameterValues = environment.getProperty("datingapp.query-profiling.log-parameter-values",
+                Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+                    return new SlowQueryLoggingDataSource(dataSource, threshold, logParameterValues);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.datingapp.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.datingapp.infrastructure.persistence.routing.ReadYourWrites;
+import com.datingapp.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits reads and writes across a primary and a read replica.
+ * Active only when datingapp.datasource.replica.url is set; otherwise Spring
+ * Boot's single auto-configured DataSource is used unchanged.
+ *
+ * The primary pool is configured from spring.datasource.*, the replica pool
+ * from datingapp.datasource.replica.* (Hikari properties such as
+ * maximum-pool-size are accepted under both prefixes).
+ */
+@Configuration
+@ConditionalOnProperty("datingapp.datasource.replica.url")
+public class ReplicaRoutingConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("datingapp.datasource.replica")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+            @Value("${datingapp.datasource.replica.url}") String url) {
+        HikariDataSource replica = new HikariDataSource();
+        // Defaults shared with the primary; replica-specific values are bound on top
+        replica.setJdbcUrl(url);
+        replica.setDriverClassName(properties.determineDriverClassName());
+        replica.setUsername(properties.determineUsername());
+        replica.setPassword(properties.determinePassword());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReadYourWrites readYourWrites) {
+        return ReplicaRoutingDataSource.lazy(primary, replica, readYourWrites);
+    }
+}
@@ -0,0 +1,20 @@
+package com.datingapp.domain;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Value object record holding everything a user's discovery screen shows:
+ * ranked prospects, users waiting for a swipe back, and existing matches.
+ * Computed view, read-only.
+ */
+public record Feed(
+        List<Prospect> prospects,
+        Set<UserId> pendingLikers,
+        List<Match> matches) {
+    public Feed {
+        prospects = List.copyOf(prospects);
+        pendingLikers = Set.copyOf(pendingLikers);
+        matches = List.copyOf(matches);
+    }
+}
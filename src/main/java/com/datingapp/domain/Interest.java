@@ -1,7 +1,13 @@
 package com.datingapp.domain;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Enum representing user interests.
+ * Each interest owns one bit (its ordinal) so a set of interests packs into a
+ * single long. New values must only ever be appended to keep stored masks valid.
  */
 public enum Interest {
     HIKING,
@@ -13,5 +19,34 @@ public enum Interest {
     GAMING,
     FITNESS,
     PHOTOGRAPHY,
-    ART
+    ART;
+
+    private static final Interest[] VALUES = values();
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long toMask(Set<Interest> interests) {
+        long mask = 0L;
+        if (interests != null) {
+            for (Interest interest : interests) {
+                mask |= interest.bit();
+            }
+        }
+        return mask;
+    }
+
+    public static Set<Interest> fromMask(long mask) {
+        if (mask == 0L) {
+            return Collections.emptySet();
+        }
+        EnumSet<Interest> interests = EnumSet.noneOf(Interest.class);
+        for (Interest interest : VALUES) {
+            if ((mask & interest.bit()) != 0) {
+                interests.add(interest);
+            }
+        }
+        return interests;
+    }
 }
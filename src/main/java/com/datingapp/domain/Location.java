@@ -18,7 +18,11 @@ public record Location(double lat, double lon) {
         return Distance.ofKilometers(km);
     }
 
-    private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+    /**
+     * Great-circle distance in kilometres between two coordinate pairs, for
+     * callers that keep coordinates as primitives rather than Locations.
+     */
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
         double dLat = Math.toRadians(lat2 - lat1);
         double dLon = Math.toRadians(lon2 - lon1);
         double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
@@ -0,0 +1,66 @@
+package com.datingapp.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Both sides' discovery preferences, reduced to bounds a repository can check
+ * while it scans instead of after candidates have been loaded and scored.
+ *
+ * The requester's age range becomes a window of candidate birth dates,
+ * computed once per request and held as epoch days so in-memory scans compare
+ * primitives; the requester's age is checked against each candidate's own age
+ * range, and the distance to the requester against the candidate's maximum
+ * distance. Candidates without a birth date pass only when the requester has
+ * no age range. Gender interest is not part of the filter: profiles do not
+ * record a gender to compare {@link Preferences#interestedIn()} against.
+ */
+public record PreferenceFilter(long earliestBirthDay, long latestBirthDay, int requesterAge) {
+    public static final int UNKNOWN_AGE = -1;
+    public static final PreferenceFilter NONE = new PreferenceFilter(Long.MIN_VALUE, Long.MAX_VALUE, UNKNOWN_AGE);
+
+    public PreferenceFilter {
+        if ((earliestBirthDay == Long.MIN_VALUE) != (latestBirthDay == Long.MAX_VALUE)) {
+            throw new IllegalArgumentException("Birth-day bounds must both be set or both be open");
+        }
+    }
+
+    public static PreferenceFilter forRequester(Profile requester, LocalDate today) {
+        AgeRange ageRange = requester.preferences() != null ? requester.preferences().ageRange() : null;
+        int requesterAge = requester.birthDate() != null ? Today.ageOn(requester.birthDate(), today) : UNKNOWN_AGE;
+        if (ageRange == null) {
+            return new PreferenceFilter(Long.MIN_VALUE, Long.MAX_VALUE, requesterAge);
+        }
+        // Aged max on the day before turning max + 1, aged min from the min-th birthday
+        return new PreferenceFilter(
+                today.minusYears(ageRange.max() + 1L).plusDays(1).toEpochDay(),
+                today.minusYears(ageRange.min()).toEpochDay(),
+                requesterAge);
+    }
+
+    public boolean hasAgeBounds() {
+        return earliestBirthDay != Long.MIN_VALUE;
+    }
+
+    /**
+     * Whether a candidate born on the given epoch day passes the requester's age
+     * range; {@code hasBirthDate} false means the candidate has none.
+     */
+    public boolean acceptsBirthDay(boolean hasBirthDate, long birthDay) {
+        return hasBirthDate ? birthDay >= earliestBirthDay && birthDay <= latestBirthDay : !hasAgeBounds();
+    }
+
+    public boolean accepts(Profile candidate, double distanceKm) {
+        LocalDate birthDate = candidate.birthDate();
+        if (!acceptsBirthDay(birthDate != null, birthDate != null ? birthDate.toEpochDay() : 0)) {
+            return false;
+        }
+        Preferences theirs = candidate.preferences();
+        if (theirs == null) {
+            return true;
+        }
+        if (requesterAge != UNKNOWN_AGE && theirs.ageRange() != null && !theirs.ageRange().contains(requesterAge)) {
+            return false;
+        }
+        return theirs.maxDistance() == null || distanceKm <= theirs.maxDistance().kilometers();
+    }
+}
@@ -1,7 +1,6 @@
 package com.datingapp.domain;
 
 import java.time.LocalDate;
-import java.time.Period;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -34,9 +33,12 @@ public record Profile(
                 && !photoUrls.isEmpty();
     }
 
+    /**
+     * Age as of the cached current date ({@link Today#SYSTEM}).
+     */
     public int age() {
         if (birthDate == null)
             return 0;
-        return Period.between(birthDate, LocalDate.now()).getYears();
+        return Today.SYSTEM.ageOf(birthDate);
     }
 }
@@ -0,0 +1,57 @@
+package com.datingapp.domain;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * The current date, resolved once and reused until the clock passes the next
+ * midnight, so per-candidate age checks cost a millisecond-clock read instead
+ * of a time-zone lookup and calendar arithmetic.
+ */
+public final class Today {
+    public static final Today SYSTEM = new Today(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Day current;
+
+    public Today(Clock clock) {
+        this.clock = clock;
+        this.current = resolve();
+    }
+
+    public LocalDate date() {
+        Day day = current;
+        if (clock.millis() >= day.rolloverMillis()) {
+            // Racing threads resolve the same date; whichever write lands is correct
+            day = resolve();
+            current = day;
+        }
+        return day.date();
+    }
+
+    public int ageOf(LocalDate birthDate) {
+        return ageOn(birthDate, date());
+    }
+
+    /**
+     * Completed years between the two dates; same result as
+     * {@code Period.between(birthDate, on).getYears()} for birthDate <= on.
+     */
+    public static int ageOn(LocalDate birthDate, LocalDate on) {
+        int age = on.getYear() - birthDate.getYear();
+        if (on.getMonthValue() < birthDate.getMonthValue()
+                || (on.getMonthValue() == birthDate.getMonthValue() && on.getDayOfMonth() < birthDate.getDayOfMonth())) {
+            age--;
+        }
+        return age;
+    }
+
+    private Day resolve() {
+        LocalDate date = LocalDate.now(clock);
+        long rollover = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        return new Day(date, rollover);
+    }
+
+    private record Day(LocalDate date, long rolloverMillis) {
+    }
+}
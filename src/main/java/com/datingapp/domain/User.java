@@ -29,6 +29,16 @@ public class User {
         this.updatedAt = this.createdAt;
     }
 
+    private User(UserId id, String username, Profile profile, UserState state,
+            Instant createdAt, Instant updatedAt) {
+        this.id = Objects.requireNonNull(id, "UserId cannot be null");
+        this.username = Objects.requireNonNull(username, "Username cannot be null");
+        this.profile = profile;
+        this.state = Objects.requireNonNull(state, "State cannot be null");
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     /**
      * Factory method for creating a new user with a generated ID.
      */
@@ -36,6 +46,15 @@ public class User {
         return new User(UserId.generate(), username, profile);
     }
 
+    /**
+     * Reconstitutes a user from persistence with its stored state,
+     * bypassing the transitions that normally lead to it.
+     */
+    public static User reconstitute(UserId id, String username, Profile profile, UserState state,
+            Instant createdAt, Instant updatedAt) {
+        return new User(id, username, profile, state, createdAt, updatedAt);
+    }
+
     public UserId getId() {
         return id;
     }
@@ -5,6 +5,6 @@ import java.time.Instant;
 /**
  * Base sealed interface for all domain events.
  */
-public sealed interface DomainEvent permits UserSwipedEvent, MatchCreatedEvent {
+public sealed interface DomainEvent permits UserSwipedEvent, MatchCreatedEvent, UserUpdatedEvent {
     Instant occurredAt();
 }
@@ -0,0 +1,19 @@
+package com.datingapp.domain.event;
+
+import java.time.Instant;
+
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.UserState;
+
+/**
+ * Domain event published when a user is saved: a state change (pause, ban,
+ * reactivation) or a profile edit.
+ */
+public record UserUpdatedEvent(
+        UserId userId,
+        UserState state,
+        Instant occurredAt) implements DomainEvent {
+    public UserUpdatedEvent(UserId userId, UserState state) {
+        this(userId, state, Instant.now());
+    }
+}
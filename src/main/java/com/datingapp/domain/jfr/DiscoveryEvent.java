@@ -0,0 +1,38 @@
+package com.datingapp.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one MatchingService.findProspects call.
+ * Shows how the candidate set shrinks from radius query to returned prospects.
+ * Like the other events in this package it is emitted with begin / end /
+ * shouldCommit, so it costs next to nothing while recording is off.
+ */
+@Name("com.datingapp.Discovery")
+@Label("Discovery")
+@Category({ "Dating App", "Matching" })
+@Description("Prospect discovery for one user")
+public class DiscoveryEvent extends Event {
+
+    @Label("Radius (km)")
+    public double radiusKm;
+
+    @Label("Candidates Fetched")
+    @Description("Rows returned by the radius query")
+    public int candidatesFetched;
+
+    @Label("Excluded Ids")
+    @Description("Size of the caller's exclusion set")
+    public int excluded;
+
+    @Label("Scored")
+    @Description("Candidates that passed filtering and were scored")
+    public int scored;
+
+    @Label("Returned")
+    public int returned;
+}
@@ -0,0 +1,18 @@
+package com.datingapp.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for publishing one domain event, including synchronous listeners.
+ */
+@Name("com.datingapp.EventPublish")
+@Label("Domain Event Publish")
+@Category({ "Dating App", "Events" })
+public class PublishEvent extends Event {
+
+    @Label("Event Type")
+    public String eventType;
+}
@@ -0,0 +1,24 @@
+package com.datingapp.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one MatchingService.processSwipe call.
+ */
+@Name("com.datingapp.Swipe")
+@Label("Swipe")
+@Category({ "Dating App", "Matching" })
+public class SwipeEvent extends Event {
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Reciprocal Like Found")
+    public boolean reciprocalFound;
+
+    @Label("Match Created")
+    public boolean matchCreated;
+}
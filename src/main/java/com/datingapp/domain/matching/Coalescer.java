@@ -0,0 +1,22 @@
+package com.datingapp.domain.matching;
+
+import java.util.function.Supplier;
+
+/**
+ * Domain port for sharing one computation between identical concurrent calls.
+ * Keeps DiscoveryOrchestrator free of the implementation and its metrics;
+ * {@link #none()} computes every call on its own.
+ */
+@FunctionalInterface
+public interface Coalescer<K, V> {
+
+    static <K, V> Coalescer<K, V> none() {
+        return (key, computation) -> computation.get();
+    }
+
+    /**
+     * The value of {@code computation}, or of the identical call already
+     * running for {@code key}.
+     */
+    V run(K key, Supplier<V> computation);
+}
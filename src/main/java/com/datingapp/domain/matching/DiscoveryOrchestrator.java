@@ -0,0 +1,160 @@
+package com.datingapp.domain.matching;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Feed;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Match;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.MatchRepository;
+import com.datingapp.domain.repository.SwipeRepository;
+
+/**
+ * Builds a user's feed from four independent reads - the next page of the
+ * requester's {@link ProspectQueues prospect queue}, the requester's swiped
+ * users, pending likers and existing matches - run concurrently on virtual
+ * threads, so feed latency is the slowest read rather than the sum of all four.
+ *
+ * The reads form one unit: the first failure cancels (interrupts) the others
+ * and is rethrown, and reads still running at the per-request deadline are
+ * cancelled the same way. The prospect page is only peeked while the reads
+ * run and taken from the queue once all of them succeeded, so a failed feed
+ * serves the same page on the next call. Swiped users and match partners are
+ * removed from the page, in case they were queued before a swipe made outside
+ * the queue.
+ *
+ * Identical concurrent requests (same requester, location, radius and page
+ * size - typically client retries) go through a {@link Coalescer} and share
+ * one feed instead of each running the four reads and taking its own page.
+ */
+public class DiscoveryOrchestrator implements AutoCloseable {
+    private final ProspectQueues prospectQueues;
+    private final SwipeRepository swipeRepository;
+    private final MatchRepository matchRepository;
+    private final Duration deadline;
+    private final Coalescer<FeedRequest, Feed> inFlight;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("feed-", 0).factory());
+
+    public DiscoveryOrchestrator(ProspectQueues prospectQueues,
+            SwipeRepository swipeRepository,
+            MatchRepository matchRepository,
+            Duration deadline) {
+        this(prospectQueues, swipeRepository, matchRepository, deadline, Coalescer.none());
+    }
+
+    public DiscoveryOrchestrator(ProspectQueues prospectQueues,
+            SwipeRepository swipeRepository,
+            MatchRepository matchRepository,
+            Duration deadline,
+            Coalescer<FeedRequest, Feed> inFlight) {
+        this.prospectQueues = prospectQueues;
+        this.swipeRepository = swipeRepository;
+        this.matchRepository = matchRepository;
+        this.deadline = deadline;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * Each call serves the next page: prospects returned once are not queued
+     * for the requester again. A call made while an identical one is running
+     * returns that call's feed.
+     *
+     * @throws IllegalStateException if the reads miss the deadline or the
+     *                               calling thread is interrupted
+     */
+    public Feed buildFeed(User requester, Distance radius, int limit) {
+        FeedRequest request = new FeedRequest(requester.getId(), requester.getProfile().location(), radius, limit);
+        return inFlight.run(request, () -> build(requester, radius, limit));
+    }
+
+    @Override
+    public void close() {
+        // Reads abandoned at a deadline may still be blocked; do not wait for them
+        executor.shutdownNow();
+    }
+
+    private Feed build(User requester, Distance radius, int limit) {
+        UserId id = requester.getId();
+        CompletionService<Object> reads = new ExecutorCompletionService<>(executor);
+        Future<Object> prospects = submit(reads, () -> prospectQueues.peek(requester, radius, limit));
+        Future<Object> swiped = submit(reads, () -> swipeRepository.findSwipedUserIds(id));
+        Future<Object> likers = submit(reads, () -> swipeRepository.findPendingLikersFor(id));
+        Future<Object> matches = submit(reads, () -> matchRepository.findByUser(id));
+        List<Future<Object>> all = List.of(prospects, swiped, likers, matches);
+
+        awaitAll(reads, all);
+
+        Set<UserId> excluded = new HashSet<>(this.<Set<UserId>>result(swiped));
+        List<Match> existingMatches = result(matches);
+        for (Match match : existingMatches) {
+            excluded.add(match.getUserA().equals(id) ? match.getUserB() : match.getUserA());
+        }
+        List<Prospect> page = result(prospects);
+        // Only now is the feed certain to be returned; a failed read above leaves the page queued
+        prospectQueues.served(id, page);
+        return new Feed(
+                page.stream().filter(prospect -> !excluded.contains(prospect.userId())).toList(),
+                result(likers),
+                existingMatches);
+    }
+
+    private static Future<Object> submit(CompletionService<Object> reads, Callable<?> read) {
+        return reads.submit(read::call);
+    }
+
+    private void awaitAll(CompletionService<Object> reads, List<Future<Object>> all) {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        try {
+            for (int completed = 0; completed < all.size(); completed++) {
+                Future<Object> done = reads.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new IllegalStateException("Feed reads exceeded the " + deadline.toMillis() + " ms deadline",
+                            new TimeoutException());
+                }
+                done.get(); // Surfaces the first failure
+            }
+        } catch (ExecutionException e) {
+            cancel(all);
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Feed read failed", e.getCause());
+        } catch (InterruptedException e) {
+            cancel(all);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building feed", e);
+        } catch (RuntimeException e) {
+            cancel(all);
+            throw e;
+        }
+    }
+
+    private static void cancel(List<Future<Object>> all) {
+        all.forEach(future -> future.cancel(true));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T result(Future<Object> future) {
+        return (T) future.resultNow();
+    }
+
+    /** What makes two feed requests interchangeable. */
+    public record FeedRequest(UserId requesterId, Location location, Distance radius, int limit) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.datingapp.domain.matching;
+
+import com.datingapp.domain.SwipeDirection;
+
+/**
+ * Domain port for matching instrumentation.
+ * Keeps MatchingService free of any metrics library; NOOP is the default.
+ */
+public interface MatchingMetrics {
+
+    MatchingMetrics NOOP = new MatchingMetrics() {
+        @Override
+        public void discovery(long nanos, int candidatesFetched, int prospectsReturned) {
+        }
+
+        @Override
+        public void swipe(SwipeDirection direction, long nanos) {
+        }
+
+        @Override
+        public void matchCreated() {
+        }
+    };
+
+    /**
+     * One findProspects call: how many candidates the repository returned and
+     * how many survived filtering and the limit.
+     */
+    void discovery(long nanos, int candidatesFetched, int prospectsReturned);
+
+    void swipe(SwipeDirection direction, long nanos);
+
+    void matchCreated();
+}
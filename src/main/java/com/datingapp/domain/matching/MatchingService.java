@@ -9,13 +9,17 @@ import com.datingapp.domain.Distance;
 import com.datingapp.domain.Interest;
 import com.datingapp.domain.Match;
 import com.datingapp.domain.MatchId;
+import com.datingapp.domain.PreferenceFilter;
 import com.datingapp.domain.Prospect;
+import com.datingapp.domain.Today;
 import com.datingapp.domain.Swipe;
 import com.datingapp.domain.SwipeDirection;
 import com.datingapp.domain.User;
 import com.datingapp.domain.UserId;
 import com.datingapp.domain.event.EventPublisher;
 import com.datingapp.domain.event.MatchCreatedEvent;
+import com.datingapp.domain.jfr.DiscoveryEvent;
+import com.datingapp.domain.jfr.SwipeEvent;
 import com.datingapp.domain.repository.MatchRepository;
 import com.datingapp.domain.repository.SwipeRepository;
 import com.datingapp.domain.repository.UserRepository;
@@ -23,40 +27,92 @@ import com.datingapp.domain.repository.UserRepository;
 /**
  * Domain service for managing matching logic and swipe processing.
  */
-public class MatchingService {
+public class MatchingService implements ProspectSource {
     private final MatchScorer scorer;
     private final UserRepository userRepository;
     private final SwipeRepository swipeRepository;
     private final MatchRepository matchRepository;
     private final EventPublisher eventPublisher;
+    private final MatchingMetrics metrics;
 
     public MatchingService(MatchScorer scorer,
             UserRepository userRepository,
             SwipeRepository swipeRepository,
             MatchRepository matchRepository,
             EventPublisher eventPublisher) {
+        this(scorer, userRepository, swipeRepository, matchRepository, eventPublisher, MatchingMetrics.NOOP);
+    }
+
+    public MatchingService(MatchScorer scorer,
+            UserRepository userRepository,
+            SwipeRepository swipeRepository,
+            MatchRepository matchRepository,
+            EventPublisher eventPublisher,
+            MatchingMetrics metrics) {
         this.scorer = scorer;
         this.userRepository = userRepository;
         this.swipeRepository = swipeRepository;
         this.matchRepository = matchRepository;
         this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
     }
 
+    /**
+     * The best {@code limit} prospects within the radius. Both sides' preferences
+     * and the excluded IDs are applied by the repository, so candidates the
+     * requester has already seen, or who would never be shown to or interested
+     * in the requester, are neither fetched nor scored.
+     */
+    @Override
     public List<Prospect> findProspects(User requester, Distance radius, int limit, Set<UserId> excludedIds) {
-        return userRepository.findDiscoverableInRadius(
+        DiscoveryEvent event = new DiscoveryEvent();
+        event.begin();
+        long started = System.nanoTime();
+        List<User> candidates = userRepository.findDiscoverableInRadius(
                 requester.getProfile().location(),
                 radius,
-                limit * 2 // Fetch more to allow for filtering
-        ).stream()
+                limit * 2, // More than the page, so ranking has a choice
+                PreferenceFilter.forRequester(requester.getProfile(), Today.SYSTEM.date()),
+                excludedIds);
+        List<User> eligible = candidates.stream()
                 .filter(u -> !u.getId().equals(requester.getId()))
-                .filter(u -> !excludedIds.contains(u.getId()))
+                .toList();
+        List<Prospect> prospects = eligible.stream()
                 .map(candidate -> toProspect(candidate, requester))
                 .sorted((p1, p2) -> Double.compare(p2.score(), p1.score()))
                 .limit(limit)
                 .collect(Collectors.toList());
+        metrics.discovery(System.nanoTime() - started, candidates.size(), prospects.size());
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.radiusKm = radius.kilometers();
+            event.candidatesFetched = candidates.size();
+            event.excluded = excludedIds.size();
+            event.scored = eligible.size();
+            event.returned = prospects.size();
+            event.commit();
+        }
+        return prospects;
     }
 
     public Optional<Match> processSwipe(UserId swiper, UserId target, SwipeDirection direction) {
+        SwipeEvent event = new SwipeEvent();
+        event.begin();
+        long started = System.nanoTime();
+        try {
+            return recordSwipe(swiper, target, direction, event);
+        } finally {
+            metrics.swipe(direction, System.nanoTime() - started);
+            event.end();
+            if (event.shouldCommit()) {
+                event.direction = direction.name();
+                event.commit();
+            }
+        }
+    }
+
+    private Optional<Match> recordSwipe(UserId swiper, UserId target, SwipeDirection direction, SwipeEvent event) {
         // 1. Record swipe
         Swipe swipe = swipeRepository.saveIfNotExists(
                 Swipe.create(swiper, target, direction));
@@ -71,6 +127,7 @@ public class MatchingService {
         if (reverseSwipe.isEmpty() || !reverseSwipe.get().isLike()) {
             return Optional.empty();
         }
+        event.reciprocalFound = true;
 
         // 3. Create match (idempotent check)
         MatchId matchId = MatchId.canonical(swiper, target);
@@ -81,6 +138,8 @@ public class MatchingService {
 
         Match match = Match.create(swiper, target);
         matchRepository.saveIfNotExists(match);
+        metrics.matchCreated();
+        event.matchCreated = true;
 
         // 4. Publish event for the new match
         eventPublisher.publish(new MatchCreatedEvent(match.getId(), swiper, target));
@@ -0,0 +1,384 @@
+package com.datingapp.domain.matching;
+
+import java.lang.System.Logger.Level;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Match;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.SwipeRepository;
+import com.datingapp.domain.repository.UserRepository;
+
+/**
+ * Precomputed prospect queues, one per recently active requester, so serving
+ * the next card is a dequeue rather than a radius query plus scoring.
+ *
+ * A queue is filled with a batch from a {@link ProspectSource} (normally
+ * {@link MatchingService}, possibly behind a cache) on first use and refilled on a virtual thread once it drops to the
+ * low-water mark. Every fill excludes the requester's swipes and everything
+ * the queue has already held, so each batch reaches further into the radius.
+ * Refills re-read the requester, so preference changes apply to the next
+ * batch. Fills of one queue are serialised: concurrent first requests share a
+ * single query.
+ *
+ * Swiping through {@link #swipe} drops the target, and {@link #candidateChanged}
+ * removes a candidate from the queues holding it after a state or profile
+ * change (a refill re-adds it if it is still eligible). Those queues come from
+ * a candidate index rather than a scan, so a save costs nothing per inactive
+ * requester and takes no lock shared with serving. A requester who moves further
+ * than the tolerance or changes the radius gets a fresh queue on the next
+ * call. Only the most recently used {@code maxUsers} queues are kept.
+ */
+public class ProspectQueues implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(ProspectQueues.class.getName());
+
+    private final MatchingService matchingService;
+    private final ProspectSource prospectSource;
+    private final UserRepository userRepository;
+    private final SwipeRepository swipeRepository;
+    private final int batchSize;
+    private final int lowWaterMark;
+    private final double moveToleranceKm;
+    private final Map<UserId, Queue> queues;
+    // Candidate -> queues with it pending; kept by the queues themselves
+    private final Map<UserId, Set<Queue>> queuesByCandidate = new ConcurrentHashMap<>();
+    private final Executor refills;
+    private final ExecutorService ownedRefills;
+
+    public ProspectQueues(MatchingService matchingService,
+            UserRepository userRepository,
+            SwipeRepository swipeRepository,
+            int batchSize,
+            int lowWaterMark,
+            Distance moveTolerance,
+            int maxUsers) {
+        this(matchingService, matchingService, userRepository, swipeRepository, batchSize, lowWaterMark,
+                moveTolerance, maxUsers);
+    }
+
+    /**
+     * Fills queues from {@code prospectSource}; swipes still go through
+     * {@code matchingService}.
+     */
+    public ProspectQueues(MatchingService matchingService,
+            ProspectSource prospectSource,
+            UserRepository userRepository,
+            SwipeRepository swipeRepository,
+            int batchSize,
+            int lowWaterMark,
+            Distance moveTolerance,
+            int maxUsers) {
+        this(matchingService, prospectSource, userRepository, swipeRepository, batchSize, lowWaterMark,
+                moveTolerance, maxUsers,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("prospect-refill-", 0).factory()));
+    }
+
+    ProspectQueues(MatchingService matchingService,
+            UserRepository userRepository,
+            SwipeRepository swipeRepository,
+            int batchSize,
+            int lowWaterMark,
+            Distance moveTolerance,
+            int maxUsers,
+            Executor refills) {
+        this(matchingService, matchingService, userRepository, swipeRepository, batchSize, lowWaterMark,
+                moveTolerance, maxUsers, refills);
+    }
+
+    ProspectQueues(MatchingService matchingService,
+            ProspectSource prospectSource,
+            UserRepository userRepository,
+            SwipeRepository swipeRepository,
+            int batchSize,
+            int lowWaterMark,
+            Distance moveTolerance,
+            int maxUsers,
+            Executor refills) {
+        if (batchSize < 1 || lowWaterMark < 0 || lowWaterMark >= batchSize) {
+            throw new IllegalArgumentException("Low-water mark must be in [0, batch size)");
+        }
+        if (maxUsers < 1) {
+            throw new IllegalArgumentException("Max users must be positive");
+        }
+        this.matchingService = matchingService;
+        this.prospectSource = prospectSource;
+        this.userRepository = userRepository;
+        this.swipeRepository = swipeRepository;
+        this.batchSize = batchSize;
+        this.lowWaterMark = lowWaterMark;
+        this.moveToleranceKm = moveTolerance.kilometers();
+        this.queues = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UserId, Queue> eldest) {
+                if (size() <= maxUsers) {
+                    return false;
+                }
+                eldest.getValue().release();
+                return true;
+            }
+        });
+        this.refills = refills;
+        this.ownedRefills = refills instanceof ExecutorService service ? service : null;
+    }
+
+    /**
+     * The best remaining prospect for the requester, or empty once discovery
+     * has nothing left to offer within the radius.
+     */
+    public Optional<Prospect> next(User requester, Distance radius) {
+        List<Prospect> next = next(requester, radius, 1);
+        return next.isEmpty() ? Optional.empty() : Optional.of(next.get(0));
+    }
+
+    /**
+     * Up to {@code count} of the best remaining prospects, removed from the
+     * queue; {@link #peek} followed by {@link #served}.
+     */
+    public List<Prospect> next(User requester, Distance radius, int count) {
+        List<Prospect> page = peek(requester, radius, count);
+        served(requester.getId(), page);
+        return page;
+    }
+
+    /**
+     * Up to {@code count} of the best remaining prospects, for a feed page,
+     * left at the head of the queue until {@link #served} takes them; a feed
+     * that fails after peeking therefore loses nothing. The queue is topped up
+     * synchronously when it cannot fill the page and the last batch suggested
+     * more candidates are left.
+     */
+    public List<Prospect> peek(User requester, Distance radius, int count) {
+        Queue queue = queueFor(requester, radius);
+        if (!queue.isFilled() || (queue.size() < count && !queue.isExhausted())) {
+            fill(queue, requester, count);
+        }
+        return queue.peek(count);
+    }
+
+    /**
+     * Removes a page returned by {@link #peek} once it has been delivered;
+     * its prospects are never queued for the requester again.
+     */
+    public void served(UserId requesterId, List<Prospect> page) {
+        Queue queue = queues.get(requesterId);
+        if (queue == null) {
+            return;
+        }
+        queue.dropAll(page);
+        if (queue.size() <= lowWaterMark && queue.startRefill()) {
+            refills.execute(() -> refill(queue));
+        }
+    }
+
+    /**
+     * Records the swipe through {@link MatchingService#processSwipe} and drops
+     * the target from the swiper's queue.
+     */
+    public Optional<Match> swipe(UserId swiper, UserId target, SwipeDirection direction) {
+        Optional<Match> match = matchingService.processSwipe(swiper, target, direction);
+        Queue queue = queues.get(swiper);
+        if (queue != null) {
+            queue.drop(target);
+        }
+        return match;
+    }
+
+    /**
+     * Removes a candidate whose state or profile changed from every queue
+     * holding it; call once a pause, ban, reactivation or profile edit has
+     * committed.
+     */
+    public void candidateChanged(UserId candidate) {
+        Set<Queue> holding = queuesByCandidate.remove(candidate);
+        if (holding != null) {
+            holding.forEach(queue -> queue.remove(candidate));
+        }
+    }
+
+    /** Candidates currently indexed as pending in at least one queue. */
+    int indexedCandidates() {
+        return queuesByCandidate.size();
+    }
+
+    @Override
+    public void close() {
+        if (ownedRefills != null) {
+            ownedRefills.shutdownNow();
+        }
+    }
+
+    private Queue queueFor(User requester, Distance radius) {
+        Location location = requester.getProfile().location();
+        // Replacing the queue is cheap; filling it happens outside the map lock
+        return queues.compute(requester.getId(), (id, queue) -> {
+            if (queue != null && queue.covers(location, radius)) {
+                return queue;
+            }
+            if (queue != null) {
+                queue.release();
+            }
+            return new Queue(id, location, radius, moveToleranceKm, queuesByCandidate);
+        });
+    }
+
+    private void refill(Queue queue) {
+        try {
+            userRepository.findById(queue.requesterId)
+                    .ifPresent(requester -> fill(queue, requester, lowWaterMark + 1));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Prospect refill failed for " + queue.requesterId, e);
+        } finally {
+            queue.refillDone();
+        }
+    }
+
+    /**
+     * Adds one batch unless another fill already brought the queue to
+     * {@code wanted} prospects while this one waited for the fill lock.
+     */
+    private void fill(Queue queue, User requester, int wanted) {
+        synchronized (queue.fillLock) {
+            if (queue.isFilled() && queue.size() >= wanted) {
+                return;
+            }
+            Set<UserId> excluded = new HashSet<>(swipeRepository.findSwipedUserIds(queue.requesterId));
+            excluded.addAll(queue.knownIds());
+            int requested = Math.max(batchSize, wanted);
+            List<Prospect> batch = prospectSource.findProspects(requester, queue.radius, requested, excluded);
+            queue.offerAll(batch, batch.size() < requested);
+        }
+    }
+
+    private static final class Queue {
+        private final UserId requesterId;
+        private final Location location;
+        private final Distance radius;
+        private final double moveToleranceKm;
+        private final Map<UserId, Set<Queue>> index;
+        private final Object fillLock = new Object();
+        // Insertion order is score order within each batch; batches append
+        private final LinkedHashMap<UserId, Prospect> pending = new LinkedHashMap<>();
+        // Served or swiped - never queued again for this requester
+        private final Set<UserId> dropped = new HashSet<>();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private boolean filled;
+        // The last batch came back short: discovery ran dry within the radius
+        private boolean exhausted;
+        // Replaced or evicted: a fill still in flight must not index it again
+        private boolean released;
+
+        Queue(UserId requesterId, Location location, Distance radius, double moveToleranceKm,
+                Map<UserId, Set<Queue>> index) {
+            this.requesterId = requesterId;
+            this.location = location;
+            this.radius = radius;
+            this.moveToleranceKm = moveToleranceKm;
+            this.index = index;
+        }
+
+        boolean covers(Location current, Distance currentRadius) {
+            if (!radius.equals(currentRadius)) {
+                return false;
+            }
+            if (location == null || current == null) {
+                return location == current;
+            }
+            return location.distanceTo(current).kilometers() <= moveToleranceKm;
+        }
+
+        synchronized List<Prospect> peek(int count) {
+            return pending.values().stream().limit(count).toList();
+        }
+
+        synchronized void dropAll(List<Prospect> page) {
+            for (Prospect prospect : page) {
+                drop(prospect.userId());
+            }
+        }
+
+        synchronized int size() {
+            return pending.size();
+        }
+
+        synchronized boolean isFilled() {
+            return filled;
+        }
+
+        synchronized boolean isExhausted() {
+            return exhausted;
+        }
+
+        synchronized void drop(UserId id) {
+            remove(id);
+            dropped.add(id);
+        }
+
+        synchronized void remove(UserId id) {
+            if (pending.remove(id) != null) {
+                unindex(id);
+            }
+        }
+
+        synchronized void release() {
+            released = true;
+            pending.keySet().forEach(this::unindex);
+        }
+
+        synchronized Set<UserId> knownIds() {
+            Set<UserId> known = new HashSet<>(dropped);
+            known.addAll(pending.keySet());
+            return known;
+        }
+
+        synchronized void offerAll(List<Prospect> batch, boolean ranDry) {
+            for (Prospect prospect : batch) {
+                // A swipe may have landed while the batch was being scored
+                if (!dropped.contains(prospect.userId())
+                        && pending.putIfAbsent(prospect.userId(), prospect) == null && !released) {
+                    index(prospect.userId());
+                }
+            }
+            filled = true;
+            exhausted = ranDry;
+        }
+
+        // Both sides go through compute so an emptied set is never added to after removal
+        private void index(UserId id) {
+            index.compute(id, (candidate, holding) -> {
+                Set<Queue> queues = holding != null ? holding : ConcurrentHashMap.newKeySet();
+                queues.add(this);
+                return queues;
+            });
+        }
+
+        private void unindex(UserId id) {
+            index.computeIfPresent(id, (candidate, holding) -> {
+                holding.remove(this);
+                return holding.isEmpty() ? null : holding;
+            });
+        }
+
+        boolean startRefill() {
+            return refilling.compareAndSet(false, true);
+        }
+
+        void refillDone() {
+            refilling.set(false);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.datingapp.domain.matching;
+
+import java.util.List;
+import java.util.Set;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+
+/**
+ * Where {@link ProspectQueues} gets its batches: {@link MatchingService}
+ * itself, or a cache in front of it.
+ */
+@FunctionalInterface
+public interface ProspectSource {
+    /**
+     * The best {@code limit} prospects within the radius, skipping the excluded IDs.
+     */
+    List<Prospect> findProspects(User requester, Distance radius, int limit, Set<UserId> excludedIds);
+}
@@ -2,9 +2,11 @@ package com.datingapp.domain.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.datingapp.domain.Distance;
 import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
 import com.datingapp.domain.User;
 import com.datingapp.domain.UserId;
 
@@ -20,6 +22,31 @@ public interface UserRepository {
 
     List<User> findDiscoverableInRadius(Location center, Distance radius, int limit);
 
+    default List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter) {
+        return findDiscoverableInRadius(center, radius, limit, filter, Set.of());
+    }
+
+    /**
+     * Discoverable users within the radius who pass both sides' preferences and
+     * are not in {@code excludedIds}. Adapters should evaluate the filter and the
+     * exclusions inside their query or scan, so a caller paging past users it has
+     * already seen gets new candidates instead of the same first rows. This
+     * default over-fetches the plain radius query by the number of exclusions and
+     * filters afterwards, so it may return fewer than {@code limit} users even
+     * when more would qualify.
+     */
+    default List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter, Set<UserId> excludedIds) {
+        int fetch = (int) Math.min(Integer.MAX_VALUE, (long) limit + excludedIds.size());
+        return findDiscoverableInRadius(center, radius, fetch).stream()
+                .filter(user -> !excludedIds.contains(user.getId()))
+                .filter(user -> filter.accepts(user.getProfile(),
+                        center.distanceTo(user.getProfile().location()).kilometers()))
+                .limit(limit)
+                .toList();
+    }
+
     boolean existsById(UserId id);
 
     boolean existsByUsername(String username);
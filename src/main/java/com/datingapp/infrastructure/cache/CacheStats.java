@@ -0,0 +1,16 @@
+package com.datingapp.infrastructure.cache;
+
+/**
+ * Point-in-time snapshot of a cache's counters.
+ */
+public record CacheStats(long hits, long misses, long evictions, long expirations, int size) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,118 @@
+package com.datingapp.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.UserRepository;
+
+/**
+ * Read-through cache decorating any UserRepository.
+ *
+ * Point lookups (by id and by username) are served from a bounded
+ * {@link SegmentedLruCache}; saves go straight to the delegate and evict the
+ * user's entries so the next read reloads the persisted state. Radius queries
+ * are never cached - their results depend on the caller's location.
+ *
+ * Users are mutable, so the cache holds a private copy and hands every caller
+ * a fresh one; a caller pausing its copy cannot change what others read. When
+ * the save runs inside a transaction the entries are evicted again after it
+ * completes, since a read between the save and the commit would reload and
+ * cache the pre-save row.
+ */
+public class CachingUserRepository implements UserRepository {
+    private final UserRepository delegate;
+    private final SegmentedLruCache<UserId, User> byId;
+    private final SegmentedLruCache<String, UserId> idByUsername;
+
+    public CachingUserRepository(UserRepository delegate, int maxSize, Duration ttl) {
+        this.delegate = delegate;
+        this.byId = new SegmentedLruCache<>(maxSize, ttl);
+        this.idByUsername = new SegmentedLruCache<>(maxSize, ttl);
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        User cached = byId.get(id, key -> delegate.findById(key).map(CachingUserRepository::copy).orElse(null));
+        return Optional.ofNullable(cached).map(CachingUserRepository::copy);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        UserId id = idByUsername.getIfPresent(username);
+        if (id != null) {
+            Optional<User> cached = findById(id);
+            // The mapping may predate a rename
+            if (cached.isPresent() && cached.get().getUsername().equals(username)) {
+                return cached;
+            }
+            idByUsername.invalidate(username);
+        }
+        // Only the mapping is cached here; the user itself goes through findById's guarded load
+        Optional<User> loaded = delegate.findByUsername(username);
+        loaded.ifPresent(user -> idByUsername.put(username, user.getId()));
+        return loaded;
+    }
+
+    @Override
+    public void save(User user) {
+        delegate.save(user);
+        evict(user);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(user);
+                }
+            });
+        }
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit) {
+        return delegate.findDiscoverableInRadius(center, radius, limit);
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter, Set<UserId> excludedIds) {
+        return delegate.findDiscoverableInRadius(center, radius, limit, filter, excludedIds);
+    }
+
+    @Override
+    public boolean existsById(UserId id) {
+        return byId.getIfPresent(id) != null || delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return idByUsername.getIfPresent(username) != null || delegate.existsByUsername(username);
+    }
+
+    public void evict(User user) {
+        byId.invalidate(user.getId());
+        idByUsername.invalidate(user.getUsername());
+    }
+
+    private static User copy(User user) {
+        return User.reconstitute(user.getId(), user.getUsername(), user.getProfile(), user.getState(),
+                user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    public CacheStats stats() {
+        return byId.stats();
+    }
+
+    public CacheStats usernameStats() {
+        return idByUsername.stats();
+    }
+}
@@ -0,0 +1,152 @@
+package com.datingapp.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.Today;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.domain.matching.ProspectSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Short-lived cache of ranked prospect lists in front of
+ * {@link MatchingService#findProspects}, used as the {@link ProspectSource} of
+ * the prospect queues so a queue rebuilt after eviction, a move or a radius
+ * change reuses a recent batch instead of querying and scoring again.
+ *
+ * Entries are keyed by requester, page size, radius bucket, location cell and
+ * the requester's {@link PreferenceFilter}, so a requester who moves within a
+ * cell or nudges the radius within a bucket reuses the entry, while a changed
+ * age range or birthday misses. Within a bucket a page only serves radii up to
+ * the one it was computed for, minus the prospects beyond the requested
+ * radius; a larger radius recomputes. Swipes do not invalidate anything: a hit is
+ * filtered against the caller's excluded IDs, and recomputed when filtering
+ * left a full page short. A short page means discovery ran dry, but only for
+ * the exclusions it was computed with; it is served as final only to callers
+ * excluding at least those, and recomputed otherwise. Memory is bounded by
+ * the entry count and by not caching pages larger than {@code maxPageSize}.
+ * Concurrent misses are not coalesced here: each queue serialises its own
+ * fills, and identical feed requests are coalesced before they reach a queue.
+ */
+public class ProspectCache implements ProspectSource {
+    private final ProspectSource delegate;
+    private final SegmentedLruCache<Key, Page> cache;
+    private final int maxPageSize;
+    private final double radiusBucketKm;
+    private final double cellDegrees;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refills;
+    private final Counter bypassed;
+
+    public ProspectCache(ProspectSource delegate, int maxSize, Duration ttl, int maxPageSize,
+            Distance radiusBucket, double cellDegrees, MeterRegistry registry) {
+        this(delegate, maxSize, ttl, maxPageSize, radiusBucket, cellDegrees, registry, System::nanoTime);
+    }
+
+    ProspectCache(ProspectSource delegate, int maxSize, Duration ttl, int maxPageSize,
+            Distance radiusBucket, double cellDegrees, MeterRegistry registry, LongSupplier nanoClock) {
+        if (radiusBucket.kilometers() <= 0 || cellDegrees <= 0) {
+            throw new IllegalArgumentException("Radius bucket and location cell must be positive");
+        }
+        this.delegate = delegate;
+        this.cache = new SegmentedLruCache<>(maxSize, ttl, nanoClock);
+        this.maxPageSize = maxPageSize;
+        this.radiusBucketKm = radiusBucket.kilometers();
+        this.cellDegrees = cellDegrees;
+        this.hits = lookups(registry, "hit");
+        this.misses = lookups(registry, "miss");
+        this.refills = lookups(registry, "refill");
+        this.bypassed = lookups(registry, "bypass");
+    }
+
+    @Override
+    public List<Prospect> findProspects(User requester, Distance radius, int limit, Set<UserId> excludedIds) {
+        Location location = requester.getProfile().location();
+        if (location == null || limit > maxPageSize) {
+            bypassed.increment();
+            return delegate.findProspects(requester, radius, limit, excludedIds);
+        }
+        Key key = new Key(requester.getId(), limit,
+                Math.round(radius.kilometers() / radiusBucketKm),
+                (long) Math.floor(location.lat() / cellDegrees),
+                (long) Math.floor(location.lon() / cellDegrees),
+                PreferenceFilter.forRequester(requester.getProfile(), Today.SYSTEM.date()));
+
+        Page cached = cache.getIfPresent(key);
+        if (cached != null && radius.kilometers() <= cached.radius().kilometers()) {
+            List<Prospect> fresh = cached.prospects().stream()
+                    .filter(prospect -> !excludedIds.contains(prospect.userId()))
+                    .filter(prospect -> prospect.distance().kilometers() <= radius.kilometers())
+                    .toList();
+            // A full page must still be full; a short one is final only under the exclusions it was computed with
+            boolean exact = cached.isShort(limit)
+                    ? excludedIds.containsAll(cached.excludedIds())
+                    : fresh.size() == limit;
+            if (exact) {
+                hits.increment();
+                return fresh;
+            }
+            refills.increment();
+        } else if (cached != null) {
+            // Computed for a smaller radius within the bucket: it cannot list what lies beyond
+            refills.increment();
+        } else {
+            misses.increment();
+        }
+        // Handed out again on hits, so immutable
+        List<Prospect> prospects = List.copyOf(delegate.findProspects(requester, radius, limit, excludedIds));
+        // Only a short page's exclusions matter later, so full pages do not keep a copy
+        cache.put(key, new Page(prospects, radius,
+                prospects.size() < limit ? Set.copyOf(excludedIds) : Set.of()));
+        return prospects;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Hit rate over cacheable lookups; pages recomputed after filtering count as misses.
+     */
+    public double hitRate() {
+        double lookups = hits.count() + misses.count() + refills.count();
+        return lookups == 0 ? 0.0 : hits.count() / lookups;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static Counter lookups(MeterRegistry registry, String result) {
+        return Counter.builder("datingapp.cache.prospects")
+                .description("ProspectCache lookups by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record Key(UserId requester, int limit, long radiusBucket, long latCell, long lonCell,
+            PreferenceFilter preferences) {
+    }
+
+    /**
+     * A ranked page, the radius it was computed for and, when it came back
+     * short, the exclusions it was computed with: everything else within the
+     * radius was already on it.
+     */
+    private record Page(List<Prospect> prospects, Distance radius, Set<UserId> excludedIds) {
+        boolean isShort(int limit) {
+            return prospects.size() < limit;
+        }
+    }
+}
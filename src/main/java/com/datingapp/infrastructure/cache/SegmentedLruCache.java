@@ -0,0 +1,201 @@
+package com.datingapp.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded in-process cache with segmented-LRU eviction and a per-entry TTL.
+ *
+ * New entries land in a probation segment; a second hit promotes them to the
+ * protected segment (80% of capacity). One-hit wonders are therefore evicted
+ * before entries that are read repeatedly, which keeps a scan of cold keys from
+ * flushing the hot working set.
+ *
+ * All state is guarded by a single lock. Loaders run outside the lock, so two
+ * threads missing on the same key may both load it. A load only lands if the
+ * key was not invalidated while it ran: each key being loaded carries a
+ * generation that {@link #invalidate} bumps, so a read that started before a
+ * write cannot put the pre-write value back after the writer evicted it.
+ */
+public class SegmentedLruCache<K, V> {
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final int maxSize;
+    private final int protectedMaxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<K, Entry<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Entry<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    // Only keys with a load in flight, so the map stays as small as the concurrency
+    private final HashMap<K, Loading> loading = new HashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    public SegmentedLruCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    public SegmentedLruCache(int maxSize, Duration ttl, LongSupplier nanoClock) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Cache size must be positive");
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        this.maxSize = maxSize;
+        this.protectedMaxSize = Math.max(1, (int) (maxSize * PROTECTED_RATIO));
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+    }
+
+    /**
+     * Returns the cached value, or null if absent or expired.
+     */
+    public V getIfPresent(K key) {
+        synchronized (this) {
+            Entry<V> entry = lookup(key);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            return entry.value();
+        }
+    }
+
+    /**
+     * Returns the cached value, loading and caching it on a miss.
+     * A null result from the loader is returned but not cached, and neither
+     * is a result whose key was invalidated while the loader ran.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Loading load;
+        long generation;
+        synchronized (this) {
+            Entry<V> entry = lookup(key);
+            if (entry != null) {
+                hits++;
+                return entry.value();
+            }
+            misses++;
+            load = loading.computeIfAbsent(key, k -> new Loading());
+            load.loaders++;
+            generation = load.generation;
+        }
+        V loaded = null;
+        try {
+            loaded = loader.apply(key);
+        } finally {
+            synchronized (this) {
+                if (--load.loaders == 0) {
+                    loading.remove(key);
+                }
+                if (loaded != null && load.generation == generation) {
+                    store(key, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void put(K key, V value) {
+        store(key, value);
+    }
+
+    public synchronized void invalidate(K key) {
+        Loading load = loading.get(key);
+        if (load != null) {
+            load.generation++;
+        }
+        remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        loading.values().forEach(load -> load.generation++);
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    public synchronized int size() {
+        return probation.size() + protectedSegment.size();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, expirations, size());
+    }
+
+    private void store(K key, V value) {
+        Objects.requireNonNull(value, "Cache values cannot be null");
+        Entry<V> entry = new Entry<>(value, nanoClock.getAsLong() + ttlNanos);
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.put(key, entry);
+            return;
+        }
+        probation.put(key, entry);
+        while (probation.size() + protectedSegment.size() > maxSize) {
+            evictEldest(probation.isEmpty() ? protectedSegment : probation);
+            evictions++;
+        }
+    }
+
+    private void remove(K key) {
+        if (protectedSegment.remove(key) == null) {
+            probation.remove(key);
+        }
+    }
+
+    private Entry<V> lookup(K key) {
+        Entry<V> entry = protectedSegment.get(key);
+        boolean inProbation = false;
+        if (entry == null) {
+            entry = probation.get(key);
+            inProbation = entry != null;
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - nanoClock.getAsLong() <= 0) {
+            remove(key);
+            expirations++;
+            return null;
+        }
+        if (inProbation) {
+            promote(key, entry);
+        }
+        return entry;
+    }
+
+    private void promote(K key, Entry<V> entry) {
+        probation.remove(key);
+        protectedSegment.put(key, entry);
+        if (protectedSegment.size() > protectedMaxSize) {
+            // Demote the least recently used protected entry back to probation
+            Iterator<Map.Entry<K, Entry<V>>> it = protectedSegment.entrySet().iterator();
+            Map.Entry<K, Entry<V>> eldest = it.next();
+            it.remove();
+            probation.put(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void evictEldest(LinkedHashMap<K, Entry<V>> segment) {
+        Iterator<Map.Entry<K, Entry<V>>> it = segment.entrySet().iterator();
+        it.next();
+        it.remove();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class Loading {
+        private int loaders;
+        private long generation;
+    }
+}
@@ -0,0 +1,92 @@
+package com.datingapp.infrastructure.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.datingapp.domain.matching.Coalescer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller computes the
+ * value on its own thread, callers arriving while it runs wait for and share
+ * its result (or its exception). Nothing is retained once the computation
+ * finishes, so this is not a cache.
+ *
+ * At most {@code maxKeys} computations are tracked; past that, callers compute
+ * independently instead of growing the map. The check is not atomic with the
+ * insert, so concurrent leaders can overshoot the bound by a few entries.
+ */
+public class SingleFlight<K, V> implements Coalescer<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter overflowed;
+
+    public SingleFlight(int maxKeys, MeterRegistry registry, String meterName) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("Max in-flight keys must be positive");
+        }
+        this.maxKeys = maxKeys;
+        this.leaders = calls(registry, meterName, "leader");
+        this.coalesced = calls(registry, meterName, "coalesced");
+        this.overflowed = calls(registry, meterName, "overflow");
+    }
+
+    @Override
+    public V run(K key, Supplier<V> computation) {
+        CompletableFuture<V> running = inFlight.get(key);
+        if (running == null) {
+            if (inFlight.size() >= maxKeys) {
+                overflowed.increment();
+                return computation.get();
+            }
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                leaders.increment();
+                return lead(key, mine, computation);
+            }
+        }
+        coalesced.increment();
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> mine, Supplier<V> computation) {
+        try {
+            V value = computation.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Counter calls(MeterRegistry registry, String meterName, String role) {
+        return Counter.builder(meterName)
+                .description("Calls by single-flight role")
+                .tag("role", role)
+                .register(registry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.datingapp.infrastructure.events;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.event.EventPublisher;
+import com.datingapp.domain.event.UserUpdatedEvent;
+import com.datingapp.domain.repository.UserRepository;
+
+/**
+ * Publishes a {@link UserUpdatedEvent} after every successful save, so state
+ * derived from other users (prospect queues) hears about pauses, bans and
+ * profile edits whichever code path made them. Inside a transaction the event
+ * waits for the commit: published earlier, a refill triggered by it could
+ * still read the old row and re-queue the candidate, and a rollback would
+ * announce a change that never happened. Reads pass straight through.
+ */
+public class EventPublishingUserRepository implements UserRepository {
+    private final UserRepository delegate;
+    private final EventPublisher eventPublisher;
+
+    public EventPublishingUserRepository(UserRepository delegate, EventPublisher eventPublisher) {
+        this.delegate = delegate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public void save(User user) {
+        delegate.save(user);
+        UserUpdatedEvent event = new UserUpdatedEvent(user.getId(), user.getState());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publish(event);
+                }
+            });
+        } else {
+            eventPublisher.publish(event);
+        }
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit) {
+        return delegate.findDiscoverableInRadius(center, radius, limit);
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter, Set<UserId> excludedIds) {
+        return delegate.findDiscoverableInRadius(center, radius, limit, filter, excludedIds);
+    }
+
+    @Override
+    public boolean existsById(UserId id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+}
@@ -0,0 +1,27 @@
+package com.datingapp.infrastructure.events;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.datingapp.domain.event.UserUpdatedEvent;
+import com.datingapp.domain.matching.ProspectQueues;
+
+/**
+ * Removes a user from every prospect queue once their save commits; the
+ * next refill re-adds them if they are still discoverable and match the
+ * requester.
+ */
+@Component
+public class ProspectQueueInvalidator {
+
+    private final ProspectQueues prospectQueues;
+
+    public ProspectQueueInvalidator(ProspectQueues prospectQueues) {
+        this.prospectQueues = prospectQueues;
+    }
+
+    @EventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        prospectQueues.candidateChanged(event.userId());
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 
 import com.datingapp.domain.event.DomainEvent;
 import com.datingapp.domain.event.EventPublisher;
+import com.datingapp.domain.jfr.PublishEvent;
 
 @Component
 public class SpringEventPublisher implements EventPublisher {
@@ -17,6 +18,13 @@ public class SpringEventPublisher implements EventPublisher {
 
     @Override
     public void publish(DomainEvent event) {
+        PublishEvent recording = new PublishEvent();
+        recording.begin();
         applicationEventPublisher.publishEvent(event);
+        recording.end();
+        if (recording.shouldCommit()) {
+            recording.eventType = event.getClass().getSimpleName();
+            recording.commit();
+        }
     }
 }
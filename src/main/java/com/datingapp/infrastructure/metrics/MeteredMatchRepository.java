@@ -0,0 +1,44 @@
+package com.datingapp.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.datingapp.domain.Match;
+import com.datingapp.domain.MatchId;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.MatchRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every call on a MatchRepository.
+ */
+public class MeteredMatchRepository implements MatchRepository {
+    private final MatchRepository delegate;
+    private final Timer saveIfNotExists;
+    private final Timer findById;
+    private final Timer findByUser;
+
+    public MeteredMatchRepository(MatchRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.saveIfNotExists = Timers.repository(registry, "match", "saveIfNotExists");
+        this.findById = Timers.repository(registry, "match", "findById");
+        this.findByUser = Timers.repository(registry, "match", "findByUser");
+    }
+
+    @Override
+    public Match saveIfNotExists(Match match) {
+        return saveIfNotExists.record(() -> delegate.saveIfNotExists(match));
+    }
+
+    @Override
+    public Optional<Match> findById(MatchId id) {
+        return findById.record(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Match> findByUser(UserId userId) {
+        return findByUser.record(() -> delegate.findByUser(userId));
+    }
+}
@@ -0,0 +1,50 @@
+package com.datingapp.infrastructure.metrics;
+
+import java.util.Optional;
+import java.util.Set;
+
+import com.datingapp.domain.Swipe;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.SwipeRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every call on a SwipeRepository.
+ */
+public class MeteredSwipeRepository implements SwipeRepository {
+    private final SwipeRepository delegate;
+    private final Timer saveIfNotExists;
+    private final Timer findByPair;
+    private final Timer findSwipedUserIds;
+    private final Timer findPendingLikersFor;
+
+    public MeteredSwipeRepository(SwipeRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.saveIfNotExists = Timers.repository(registry, "swipe", "saveIfNotExists");
+        this.findByPair = Timers.repository(registry, "swipe", "findByPair");
+        this.findSwipedUserIds = Timers.repository(registry, "swipe", "findSwipedUserIds");
+        this.findPendingLikersFor = Timers.repository(registry, "swipe", "findPendingLikersFor");
+    }
+
+    @Override
+    public Swipe saveIfNotExists(Swipe swipe) {
+        return saveIfNotExists.record(() -> delegate.saveIfNotExists(swipe));
+    }
+
+    @Override
+    public Optional<Swipe> findByPair(UserId swiper, UserId target) {
+        return findByPair.record(() -> delegate.findByPair(swiper, target));
+    }
+
+    @Override
+    public Set<UserId> findSwipedUserIds(UserId swiper) {
+        return findSwipedUserIds.record(() -> delegate.findSwipedUserIds(swiper));
+    }
+
+    @Override
+    public Set<UserId> findPendingLikersFor(UserId userId) {
+        return findPendingLikersFor.record(() -> delegate.findPendingLikersFor(userId));
+    }
+}
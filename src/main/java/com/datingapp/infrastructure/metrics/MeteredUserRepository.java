@@ -0,0 +1,75 @@
+package com.datingapp.infrastructure.metrics;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every call on a UserRepository.
+ */
+public class MeteredUserRepository implements UserRepository {
+    private final UserRepository delegate;
+    private final Timer findById;
+    private final Timer findByUsername;
+    private final Timer save;
+    private final Timer findDiscoverableInRadius;
+    private final Timer existsById;
+    private final Timer existsByUsername;
+
+    public MeteredUserRepository(UserRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.findById = Timers.repository(registry, "user", "findById");
+        this.findByUsername = Timers.repository(registry, "user", "findByUsername");
+        this.save = Timers.repository(registry, "user", "save");
+        this.findDiscoverableInRadius = Timers.repository(registry, "user", "findDiscoverableInRadius");
+        this.existsById = Timers.repository(registry, "user", "existsById");
+        this.existsByUsername = Timers.repository(registry, "user", "existsByUsername");
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        return findById.record(() -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return findByUsername.record(() -> delegate.findByUsername(username));
+    }
+
+    @Override
+    public void save(User user) {
+        save.record(() -> delegate.save(user));
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit) {
+        return findDiscoverableInRadius.record(() -> delegate.findDiscoverableInRadius(center, radius, limit));
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter, Set<UserId> excludedIds) {
+        return findDiscoverableInRadius.record(
+                () -> delegate.findDiscoverableInRadius(center, radius, limit, filter, excludedIds));
+    }
+
+    @Override
+    public boolean existsById(UserId id) {
+        return existsById.record(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return existsByUsername.record(() -> delegate.existsByUsername(username));
+    }
+}
@@ -0,0 +1,77 @@
+package com.datingapp.infrastructure.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+/**
+ * Renders the application's meters as plain text lines for console output.
+ * Only datingapp.* meters are included; unused ones are skipped.
+ */
+public class MetricsReporter {
+    private static final String PREFIX = "datingapp.";
+
+    private final MeterRegistry registry;
+
+    public MetricsReporter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public List<String> report() {
+        List<Meter> meters = registry.getMeters().stream()
+                .filter(meter -> meter.getId().getName().startsWith(PREFIX))
+                .sorted(Comparator.comparing(MetricsReporter::label))
+                .toList();
+
+        List<String> lines = new ArrayList<>();
+        for (Meter meter : meters) {
+            if (meter instanceof Timer timer && timer.count() > 0) {
+                lines.add(String.format("%-70s count=%-8d mean=%.3fms max=%.3fms %s",
+                        label(meter), timer.count(), timer.mean(TimeUnit.MILLISECONDS),
+                        timer.max(TimeUnit.MILLISECONDS), percentiles(timer.takeSnapshot(), true)));
+            } else if (meter instanceof DistributionSummary summary && summary.count() > 0) {
+                lines.add(String.format("%-70s count=%-8d mean=%.1f max=%.0f %s",
+                        label(meter), summary.count(), summary.mean(), summary.max(),
+                        percentiles(summary.takeSnapshot(), false)));
+            } else if (meter instanceof Counter counter && counter.count() > 0) {
+                lines.add(String.format("%-70s count=%.0f", label(meter), counter.count()));
+            }
+        }
+        return lines;
+    }
+
+    private static String label(Meter meter) {
+        String tags = meter.getId().getTags().stream()
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(",", "{", "}"));
+        return meter.getId().getName() + (tags.equals("{}") ? "" : tags);
+    }
+
+    private static String percentiles(HistogramSnapshot snapshot, boolean time) {
+        StringBuilder line = new StringBuilder();
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            if (!line.isEmpty()) {
+                line.append(' ');
+            }
+            line.append(String.format("p%s=", format(percentile.percentile() * 100)));
+            line.append(time
+                    ? String.format("%.3fms", percentile.value(TimeUnit.MILLISECONDS))
+                    : String.format("%.0f", percentile.value()));
+        }
+        return line.toString();
+    }
+
+    private static String format(double percent) {
+        return percent == Math.rint(percent) ? String.valueOf((long) percent) : String.valueOf(percent);
+    }
+}
@@ -0,0 +1,69 @@
+package com.datingapp.infrastructure.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.matching.MatchingMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer implementation of the MatchingMetrics port.
+ * Meters are registered once up front so the hot path is a field read plus a record.
+ */
+public class MicrometerMatchingMetrics implements MatchingMetrics {
+    private final Timer discovery;
+    private final DistributionSummary candidatesFetched;
+    private final DistributionSummary prospectsReturned;
+    private final Timer processSwipe;
+    private final Map<SwipeDirection, Counter> swipes = new EnumMap<>(SwipeDirection.class);
+    private final Counter matchesCreated;
+
+    public MicrometerMatchingMetrics(MeterRegistry registry) {
+        this.discovery = Timers.withPercentiles("datingapp.matching.discovery")
+                .description("MatchingService.findProspects latency")
+                .register(registry);
+        this.candidatesFetched = candidates(registry, "fetched");
+        this.prospectsReturned = candidates(registry, "returned");
+        this.processSwipe = Timers.withPercentiles("datingapp.matching.swipe")
+                .description("MatchingService.processSwipe latency")
+                .register(registry);
+        for (SwipeDirection direction : SwipeDirection.values()) {
+            swipes.put(direction, Counter.builder("datingapp.swipes")
+                    .tag("direction", direction.name())
+                    .register(registry));
+        }
+        this.matchesCreated = Counter.builder("datingapp.matches.created").register(registry);
+    }
+
+    @Override
+    public void discovery(long nanos, int candidatesFetched, int prospectsReturned) {
+        discovery.record(nanos, TimeUnit.NANOSECONDS);
+        this.candidatesFetched.record(candidatesFetched);
+        this.prospectsReturned.record(prospectsReturned);
+    }
+
+    @Override
+    public void swipe(SwipeDirection direction, long nanos) {
+        processSwipe.record(nanos, TimeUnit.NANOSECONDS);
+        swipes.get(direction).increment();
+    }
+
+    @Override
+    public void matchCreated() {
+        matchesCreated.increment();
+    }
+
+    private static DistributionSummary candidates(MeterRegistry registry, String stage) {
+        return DistributionSummary.builder("datingapp.matching.candidates")
+                .description("Candidates per findProspects call, before and after filtering")
+                .tag("stage", stage)
+                .publishPercentiles(Timers.PERCENTILES)
+                .register(registry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.datingapp.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Shared timer configuration, so every latency metric reports the same percentiles.
+ */
+final class Timers {
+    static final double[] PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+    static final String REPOSITORY_TIMER = "datingapp.repository";
+
+    private Timers() {
+    }
+
+    static Timer.Builder withPercentiles(String name) {
+        return Timer.builder(name)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram();
+    }
+
+    static Timer repository(MeterRegistry registry, String repository, String method) {
+        return withPercentiles(REPOSITORY_TIMER)
+                .description("Latency of domain repository port calls")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(registry);
+    }
+}
@@ -0,0 +1,84 @@
+package com.datingapp.infrastructure.persistence.columnar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.UserRepository;
+
+/**
+ * Decorates an in-memory UserRepository with a columnar {@link DiscoveryTable}
+ * that serves radius queries. Point lookups go to the delegate.
+ *
+ * Every save updates the delegate and the table under one write lock, so a
+ * scan never sees a user the delegate rejected. The table only knows users
+ * saved through this decorator, which is why it suits in-memory nodes rather
+ * than a shared database.
+ */
+public class ColumnarUserRepository implements UserRepository {
+    private final UserRepository delegate;
+    private final DiscoveryTable table;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ColumnarUserRepository(UserRepository delegate, int expectedUsers) {
+        this.delegate = delegate;
+        this.table = new DiscoveryTable(expectedUsers);
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return delegate.findByUsername(username);
+    }
+
+    @Override
+    public void save(User user) {
+        lock.writeLock().lock();
+        try {
+            delegate.save(user);
+            table.upsert(user);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit) {
+        return findDiscoverableInRadius(center, radius, limit, PreferenceFilter.NONE, Set.of());
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter, Set<UserId> excludedIds) {
+        List<User> result = new ArrayList<>(Math.min(limit, 256));
+        lock.readLock().lock();
+        try {
+            table.scanRadius(center.lat(), center.lon(), radius.kilometers(), filter, excludedIds, limit, result::add);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean existsById(UserId id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+}
@@ -0,0 +1,176 @@
+package com.datingapp.infrastructure.persistence.columnar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.datingapp.domain.Interest;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.UserState;
+
+/**
+ * Struct-of-arrays copy of the fields discovery filters on, one row per user.
+ *
+ * Scanning a map of Users chases User -> Profile -> Location pointers for every
+ * candidate. Here a radius query first runs a bounding-box test over the
+ * parallel lat/lon columns - plain comparisons over contiguous doubles that the
+ * JIT can unroll and vectorise - and evaluates the great-circle distance only
+ * for rows inside the box. Rows are never removed; a user that stops being
+ * discoverable keeps its row with an updated state.
+ *
+ * Not thread-safe: {@link ColumnarUserRepository} synchronises access.
+ */
+final class DiscoveryTable {
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * 6371.0;
+    // Widen the box slightly so rounding never drops a user the exact check would accept
+    private static final double BOX_MARGIN = 1e-9;
+    private static final byte[] DISCOVERABLE = discoverableByState();
+
+    private final Map<UserId, Integer> rows = new HashMap<>();
+    private double[] lat;
+    private double[] lon;
+    private int[] birthDay;
+    private long[] interests;
+    private byte[] state;
+    // Candidate-side preferences: age bounds (0 = none) and max distance (NaN = none)
+    private byte[] ageMin;
+    private byte[] ageMax;
+    private double[] maxDistanceKm;
+    private User[] users;
+    private int size;
+
+    DiscoveryTable(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        this.lat = new double[capacity];
+        this.lon = new double[capacity];
+        this.birthDay = new int[capacity];
+        this.interests = new long[capacity];
+        this.state = new byte[capacity];
+        this.ageMin = new byte[capacity];
+        this.ageMax = new byte[capacity];
+        this.maxDistanceKm = new double[capacity];
+        this.users = new User[capacity];
+    }
+
+    void upsert(User user) {
+        Integer existing = rows.get(user.getId());
+        int row;
+        if (existing == null) {
+            if (size == users.length) {
+                grow();
+            }
+            row = size++;
+            rows.put(user.getId(), row);
+        } else {
+            row = existing;
+        }
+
+        Profile profile = user.getProfile();
+        Location location = profile != null ? profile.location() : null;
+        lat[row] = location != null ? location.lat() : Double.NaN;
+        lon[row] = location != null ? location.lon() : Double.NaN;
+        birthDay[row] = profile != null && profile.birthDate() != null
+                ? (int) profile.birthDate().toEpochDay()
+                : Integer.MIN_VALUE;
+        interests[row] = profile != null ? Interest.toMask(profile.interests()) : 0L;
+        state[row] = (byte) user.getState().ordinal();
+        Preferences preferences = profile != null ? profile.preferences() : null;
+        boolean hasAgeRange = preferences != null && preferences.ageRange() != null;
+        ageMin[row] = (byte) (hasAgeRange ? preferences.ageRange().min() : 0);
+        ageMax[row] = (byte) (hasAgeRange ? preferences.ageRange().max() : 0);
+        maxDistanceKm[row] = preferences != null && preferences.maxDistance() != null
+                ? preferences.maxDistance().kilometers()
+                : Double.NaN;
+        users[row] = user;
+    }
+
+    /**
+     * Visits discoverable users within {@code radiusKm} of the centre who pass
+     * the preference filter and are not excluded, in row order, stopping after
+     * {@code limit} hits.
+     */
+    int scanRadius(double centerLat, double centerLon, double radiusKm, PreferenceFilter filter,
+            Set<UserId> excludedIds, int limit, Consumer<User> hits) {
+        double latDelta = radiusKm / KM_PER_DEGREE * (1 + BOX_MARGIN) + BOX_MARGIN;
+        double lonDelta = lonDelta(centerLat, radiusKm);
+        double minLat = centerLat - latDelta;
+        double maxLat = centerLat + latDelta;
+        int requesterAge = filter.requesterAge();
+        boolean checkTheirAgeRange = requesterAge != PreferenceFilter.UNKNOWN_AGE;
+
+        int found = 0;
+        for (int row = 0; row < size && found < limit; row++) {
+            double rowLat = lat[row];
+            // Negated so NaN (no location) is rejected too
+            if (!(rowLat >= minLat && rowLat <= maxLat) || DISCOVERABLE[state[row]] == 0) {
+                continue;
+            }
+            double dLon = Math.abs(lon[row] - centerLon);
+            if (Math.min(dLon, 360 - dLon) > lonDelta) {
+                continue;
+            }
+            int born = birthDay[row];
+            if (!filter.acceptsBirthDay(born != Integer.MIN_VALUE, born)) {
+                continue;
+            }
+            if (checkTheirAgeRange && ageMin[row] != 0
+                    && (requesterAge < ageMin[row] || requesterAge > ageMax[row])) {
+                continue;
+            }
+            double km = Location.haversine(centerLat, centerLon, rowLat, lon[row]);
+            // NaN (no max distance) never compares greater
+            // Exclusions are checked last: a hash lookup costs more than the column tests
+            if (km <= radiusKm && !(km > maxDistanceKm[row]) && !excludedIds.contains(users[row].getId())) {
+                hits.accept(users[row]);
+                found++;
+            }
+        }
+        return found;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Largest longitude difference a point within the radius can have; the
+     * whole circle of longitudes when the circle reaches a pole.
+     */
+    private static double lonDelta(double centerLat, double radiusKm) {
+        double angular = radiusKm / 6371.0;
+        double ratio = Math.sin(angular) / Math.cos(Math.toRadians(centerLat));
+        if (angular >= Math.PI / 2 || ratio >= 1) {
+            return 360;
+        }
+        return Math.toDegrees(Math.asin(ratio)) * (1 + BOX_MARGIN) + BOX_MARGIN;
+    }
+
+    private void grow() {
+        int capacity = users.length * 2;
+        lat = Arrays.copyOf(lat, capacity);
+        lon = Arrays.copyOf(lon, capacity);
+        birthDay = Arrays.copyOf(birthDay, capacity);
+        interests = Arrays.copyOf(interests, capacity);
+        state = Arrays.copyOf(state, capacity);
+        ageMin = Arrays.copyOf(ageMin, capacity);
+        ageMax = Arrays.copyOf(ageMax, capacity);
+        maxDistanceKm = Arrays.copyOf(maxDistanceKm, capacity);
+        users = Arrays.copyOf(users, capacity);
+    }
+
+    private static byte[] discoverableByState() {
+        UserState[] states = UserState.values();
+        byte[] discoverable = new byte[states.length];
+        for (UserState userState : states) {
+            discoverable[userState.ordinal()] = (byte) (userState.canBeDiscovered() ? 1 : 0);
+        }
+        return discoverable;
+    }
+}
@@ -3,20 +3,27 @@ package com.datingapp.infrastructure.persistence.inmemory;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.datingapp.domain.Distance;
 import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
 import com.datingapp.domain.User;
 import com.datingapp.domain.UserId;
 import com.datingapp.domain.repository.UserRepository;
 
 /**
  * In-memory implementation of UserRepository for Phase 0.
+ *
+ * Usernames are unique, as in the database: a secondary username index is
+ * claimed with putIfAbsent before a user is stored, so username lookups are
+ * O(1) and two concurrent registrations of the same name cannot both succeed.
  */
 public class InMemoryUserRepository implements UserRepository {
     private final Map<UserId, User> storage = new ConcurrentHashMap<>();
+    private final Map<String, UserId> idByUsername = new ConcurrentHashMap<>();
 
     @Override
     public Optional<User> findById(UserId id) {
@@ -25,22 +32,44 @@ public class InMemoryUserRepository implements UserRepository {
 
     @Override
     public Optional<User> findByUsername(String username) {
-        return storage.values().stream()
-                .filter(u -> u.getUsername().equals(username))
-                .findFirst();
+        UserId id = idByUsername.get(username);
+        return id == null ? Optional.empty() : Optional.ofNullable(storage.get(id));
     }
 
+    /**
+     * @throws IllegalStateException if the username belongs to another user
+     */
     @Override
     public void save(User user) {
-        storage.put(user.getId(), user);
+        // compute serialises saves of the same id, so a rename cannot race with itself
+        storage.compute(user.getId(), (id, previous) -> {
+            UserId owner = idByUsername.putIfAbsent(user.getUsername(), id);
+            if (owner != null && !owner.equals(id)) {
+                throw new IllegalStateException("Username already taken: " + user.getUsername());
+            }
+            if (previous != null && !previous.getUsername().equals(user.getUsername())) {
+                idByUsername.remove(previous.getUsername(), id);
+            }
+            return user;
+        });
     }
 
     @Override
     public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit) {
+        return findDiscoverableInRadius(center, radius, limit, PreferenceFilter.NONE, Set.of());
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter, Set<UserId> excludedIds) {
         return storage.values().stream()
                 .filter(User::canBeDiscovered)
+                .filter(u -> !excludedIds.contains(u.getId()))
                 .filter(u -> u.getProfile() != null && u.getProfile().location() != null)
-                .filter(u -> center.distanceTo(u.getProfile().location()).isLessThanOrEqual(radius))
+                .filter(u -> {
+                    Distance distance = center.distanceTo(u.getProfile().location());
+                    return distance.isLessThanOrEqual(radius) && filter.accepts(u.getProfile(), distance.kilometers());
+                })
                 .limit(limit)
                 .collect(Collectors.toList());
     }
@@ -52,7 +81,6 @@ public class InMemoryUserRepository implements UserRepository {
 
     @Override
     public boolean existsByUsername(String username) {
-        return storage.values().stream()
-                .anyMatch(u -> u.getUsername().equals(username));
+        return idByUsername.containsKey(username);
     }
 }
@@ -0,0 +1,14 @@
+package com.datingapp.infrastructure.persistence.jdbc;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of a running (or finished) bulk import.
+ */
+public record ImportProgress(long rows, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? rows : rows * 1000.0 / millis;
+    }
+}
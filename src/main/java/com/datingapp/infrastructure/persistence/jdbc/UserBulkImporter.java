@@ -0,0 +1,151 @@
+package com.datingapp.infrastructure.persistence.jdbc;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.datingapp.infrastructure.persistence.jdbc.UserRecordParser.ParsedUser;
+import com.datingapp.infrastructure.persistence.jpa.UserEntity;
+import com.datingapp.infrastructure.persistence.jpa.UserMapper;
+
+/**
+ * Streams users from a CSV or JSON-lines file into the users table.
+ *
+ * Bypasses JPA entirely: rows are mapped with {@link UserMapper} and written
+ * with JDBC batch inserts, one transaction per chunk, so memory stays flat
+ * regardless of file size and a failure only rolls back the current chunk.
+ * On PostgreSQL, enable reWriteBatchedInserts on the driver to have each batch
+ * sent as multi-row INSERT statements.
+ */
+@Component
+public class UserBulkImporter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, username, password_hash, state, display_name, bio, birth_date,
+                               latitude, longitude, photo_urls, interest_mask, interested_in,
+                               age_range_min, age_range_max, max_distance_km, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserBulkImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ImportProgress importFile(Path file, int chunkSize, Consumer<ImportProgress> progressListener) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importFrom(reader, UserImportFormat.fromFileName(file), chunkSize, progressListener);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import file " + file, e);
+        }
+    }
+
+    public ImportProgress importFrom(Reader input, UserImportFormat format, int chunkSize,
+            Consumer<ImportProgress> progressListener) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("Chunk size must be positive");
+
+        UserRecordParser parser = new UserRecordParser(format);
+        BufferedReader reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input);
+        List<UserEntity> chunk = new ArrayList<>(chunkSize);
+        long started = System.nanoTime();
+        long rows = 0;
+        long lineNumber = 0;
+        boolean expectHeader = true;
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (expectHeader) {
+                    expectHeader = false;
+                    if (parser.acceptHeader(line)) {
+                        continue;
+                    }
+                }
+                chunk.add(toEntity(parser, line, lineNumber));
+                if (chunk.size() == chunkSize) {
+                    rows += writeChunk(chunk);
+                    progressListener.accept(new ImportProgress(rows, Duration.ofNanos(System.nanoTime() - started)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import input at line " + lineNumber, e);
+        }
+
+        if (!chunk.isEmpty()) {
+            rows += writeChunk(chunk);
+        }
+        ImportProgress result = new ImportProgress(rows, Duration.ofNanos(System.nanoTime() - started));
+        progressListener.accept(result);
+        return result;
+    }
+
+    private UserEntity toEntity(UserRecordParser parser, String line, long lineNumber) {
+        try {
+            ParsedUser parsed = parser.parse(line);
+            return UserMapper.toEntity(parsed.user(), parsed.passwordHash());
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid user record at line " + lineNumber + ": " + e.getMessage(), e);
+        }
+    }
+
+    private int writeChunk(List<UserEntity> chunk) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                INSERT_SQL, chunk, chunk.size(), UserBulkImporter::bind));
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+
+    private static void bind(PreparedStatement ps, UserEntity user) throws SQLException {
+        ps.setObject(1, user.getId());
+        ps.setString(2, user.getUsername());
+        ps.setString(3, user.getPasswordHash());
+        ps.setString(4, user.getState().name());
+        ps.setString(5, user.getDisplayName());
+        ps.setString(6, user.getBio());
+        ps.setObject(7, user.getBirthDate(), Types.DATE);
+        ps.setObject(8, user.getLatitude(), Types.DOUBLE);
+        ps.setObject(9, user.getLongitude(), Types.DOUBLE);
+        bindArray(ps, 10, user.getPhotoUrls());
+        ps.setObject(11, user.getInterestMask(), Types.BIGINT);
+        bindArray(ps, 12, user.getInterestedIn());
+        ps.setObject(13, user.getAgeRangeMin(), Types.INTEGER);
+        ps.setObject(14, user.getAgeRangeMax(), Types.INTEGER);
+        ps.setObject(15, user.getMaxDistanceKm(), Types.DOUBLE);
+        ps.setTimestamp(16, Timestamp.from(user.getCreatedAt()));
+        ps.setTimestamp(17, Timestamp.from(user.getUpdatedAt()));
+    }
+
+    private static void bindArray(PreparedStatement ps, int index, String[] values) throws SQLException {
+        if (values == null) {
+            ps.setNull(index, Types.ARRAY);
+        } else {
+            ps.setArray(index, ps.getConnection().createArrayOf("varchar", values));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.datingapp.infrastructure.persistence.jdbc;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Supported input formats for {@link UserBulkImporter}.
+ */
+public enum UserImportFormat {
+    /** Header row with field names, one user per line. Multi-valued fields are '|'-separated. */
+    CSV,
+    /** One JSON object per line. Multi-valued fields are JSON arrays. */
+    JSON_LINES;
+
+    public static UserImportFormat fromFileName(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSON_LINES;
+        }
+        throw new IllegalArgumentException("Unsupported import file type: " + file);
+    }
+}
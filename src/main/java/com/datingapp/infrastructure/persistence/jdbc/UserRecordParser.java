@@ -0,0 +1,179 @@
+package com.datingapp.infrastructure.persistence.jdbc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Interest;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Turns one line of import input into a domain User.
+ * Going through the domain constructors keeps imported rows subject to the
+ * same invariants (photo limit, age range, coordinates) as regular saves.
+ */
+final class UserRecordParser {
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+
+    private final UserImportFormat format;
+    private Map<String, Integer> csvColumns;
+
+    UserRecordParser(UserImportFormat format) {
+        this.format = format;
+    }
+
+    /**
+     * Consumes the CSV header row. Returns false for formats without a header.
+     */
+    boolean acceptHeader(String line) {
+        if (format != UserImportFormat.CSV) {
+            return false;
+        }
+        List<String> names = splitCsv(line);
+        csvColumns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            csvColumns.put(names.get(i).trim(), i);
+        }
+        if (!csvColumns.containsKey("username")) {
+            throw new IllegalArgumentException("CSV header must contain a 'username' column");
+        }
+        return true;
+    }
+
+    ParsedUser parse(String line) {
+        Fields fields = format == UserImportFormat.CSV
+                ? new CsvFields(splitCsv(line))
+                : new JsonFields(JSON.readTree(line));
+
+        UserId id = UserId.generate();
+        String username = fields.text("username");
+        Location location = null;
+        if (fields.text("latitude") != null && fields.text("longitude") != null) {
+            location = new Location(Double.parseDouble(fields.text("latitude")),
+                    Double.parseDouble(fields.text("longitude")));
+        }
+        AgeRange ageRange = null;
+        if (fields.text("ageRangeMin") != null && fields.text("ageRangeMax") != null) {
+            ageRange = AgeRange.of(Integer.parseInt(fields.text("ageRangeMin")),
+                    Integer.parseInt(fields.text("ageRangeMax")));
+        }
+        Distance maxDistance = fields.text("maxDistanceKm") != null
+                ? Distance.ofKilometers(Double.parseDouble(fields.text("maxDistanceKm")))
+                : null;
+        Set<Interest> interests = fields.list("interests").stream()
+                .map(Interest::valueOf)
+                .collect(Collectors.toSet());
+        String birthDate = fields.text("birthDate");
+
+        Profile profile = new Profile(
+                id,
+                fields.text("displayName"),
+                fields.text("bio"),
+                birthDate != null ? LocalDate.parse(birthDate) : null,
+                interests,
+                new Preferences(Set.copyOf(fields.list("interestedIn")), ageRange, maxDistance),
+                location,
+                fields.list("photoUrls"));
+
+        return new ParsedUser(new User(id, username, profile), fields.text("passwordHash"));
+    }
+
+    record ParsedUser(User user, String passwordHash) {
+    }
+
+    private interface Fields {
+        String text(String name);
+
+        List<String> list(String name);
+    }
+
+    private final class CsvFields implements Fields {
+        private final List<String> values;
+
+        CsvFields(List<String> values) {
+            this.values = values;
+        }
+
+        @Override
+        public String text(String name) {
+            Integer index = csvColumns.get(name);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        @Override
+        public List<String> list(String name) {
+            String value = text(name);
+            return value == null ? List.of() : Arrays.asList(value.split("\\|"));
+        }
+    }
+
+    private record JsonFields(JsonNode node) implements Fields {
+        @Override
+        public String text(String name) {
+            JsonNode value = node.get(name);
+            return value == null || value.isNull() ? null : value.asString();
+        }
+
+        @Override
+        public List<String> list(String name) {
+            JsonNode value = node.get(name);
+            if (value == null || value.isNull()) {
+                return List.of();
+            }
+            List<String> items = new ArrayList<>();
+            value.forEach(item -> items.add(item.asString()));
+            return items;
+        }
+    }
+
+    /**
+     * Minimal RFC 4180 split: commas separate fields, double quotes wrap fields
+     * containing commas, and "" inside quotes is a literal quote.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -5,11 +5,13 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.datingapp.domain.Match;
 import com.datingapp.domain.MatchId;
 import com.datingapp.domain.UserId;
 import com.datingapp.domain.repository.MatchRepository;
+import com.datingapp.infrastructure.persistence.routing.ReadYourWrites;
 
 /**
  * JPA implementation of MatchRepository (domain port).
@@ -25,12 +27,17 @@ import com.datingapp.domain.repository.MatchRepository;
 public class JpaMatchRepository implements MatchRepository {
 
     private final SpringDataMatchRepository springDataRepo;
+    private final ReadYourWrites readYourWrites;
 
-    public JpaMatchRepository(SpringDataMatchRepository springDataRepo) {
+    public JpaMatchRepository(SpringDataMatchRepository springDataRepo, ReadYourWrites readYourWrites) {
         this.springDataRepo = springDataRepo;
+        this.readYourWrites = readYourWrites;
     }
 
+    // Read-write so the existence check runs on the primary, in the same
+    // transaction as the insert; the inherited findById is read-only.
     @Override
+    @Transactional
     public Match saveIfNotExists(Match match) {
         Optional<MatchEntity> existing = springDataRepo.findById(match.getId().value());
 
@@ -40,20 +47,26 @@ public class JpaMatchRepository implements MatchRepository {
 
         MatchEntity entity = toEntity(match);
         springDataRepo.save(entity);
+        // Both sides should see the match straight away
+        readYourWrites.wrote(match.getUserA().value(), match.getUserB().value());
         return match;
     }
 
+    // Deliberately not read-only: processSwipe decides whether to create a
+    // match from this lookup, so it must never be served by a lagging replica.
     @Override
+    @Transactional
     public Optional<Match> findById(MatchId id) {
         return springDataRepo.findById(id.value())
                 .map(this::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Match> findByUser(UserId userId) {
-        return springDataRepo.findByUser(userId.value()).stream()
+        return readYourWrites.read(userId.value(), () -> springDataRepo.findByUser(userId.value()).stream()
                 .map(this::toDomain)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     private MatchEntity toEntity(Match match) {
@@ -5,11 +5,13 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.datingapp.domain.Swipe;
 import com.datingapp.domain.SwipeId;
 import com.datingapp.domain.UserId;
 import com.datingapp.domain.repository.SwipeRepository;
+import com.datingapp.infrastructure.persistence.routing.ReadYourWrites;
 
 /**
  * JPA implementation of SwipeRepository (domain port).
@@ -26,9 +28,11 @@ import com.datingapp.domain.repository.SwipeRepository;
 public class JpaSwipeRepository implements SwipeRepository {
 
     private final SpringDataSwipeRepository springDataRepo;
+    private final ReadYourWrites readYourWrites;
 
-    public JpaSwipeRepository(SpringDataSwipeRepository springDataRepo) {
+    public JpaSwipeRepository(SpringDataSwipeRepository springDataRepo, ReadYourWrites readYourWrites) {
         this.springDataRepo = springDataRepo;
+        this.readYourWrites = readYourWrites;
     }
 
     @Override
@@ -43,9 +47,12 @@ public class JpaSwipeRepository implements SwipeRepository {
 
         SwipeEntity entity = toEntity(swipe);
         springDataRepo.save(entity);
+        readYourWrites.wrote(swipe.getSwiperId().value());
         return swipe;
     }
 
+    // Deliberately not read-only: processSwipe decides on a match from this
+    // lookup, so it must never be served by a lagging replica.
     @Override
     public Optional<Swipe> findByPair(UserId swiperId, UserId targetId) {
         return springDataRepo.findBySwiperIdAndTargetId(swiperId.value(), targetId.value())
@@ -53,17 +60,19 @@ public class JpaSwipeRepository implements SwipeRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<UserId> findSwipedUserIds(UserId swiperId) {
-        return springDataRepo.findBySwiperId(swiperId.value()).stream()
+        return readYourWrites.read(swiperId.value(), () -> springDataRepo.findBySwiperId(swiperId.value()).stream()
                 .map(entity -> new UserId(entity.getTargetId()))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toSet()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<UserId> findPendingLikersFor(UserId userId) {
-        return springDataRepo.findLikersFor(userId.value()).stream()
+        return readYourWrites.read(userId.value(), () -> springDataRepo.findLikersFor(userId.value()).stream()
                 .map(entity -> new UserId(entity.getSwiperId()))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toSet()));
     }
 
     private SwipeEntity toEntity(Swipe swipe) {
@@ -1,31 +1,58 @@
 package com.datingapp.infrastructure.persistence.jpa;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.datingapp.domain.Distance;
 import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
 import com.datingapp.domain.User;
 import com.datingapp.domain.UserId;
 import com.datingapp.domain.repository.UserRepository;
+import com.datingapp.infrastructure.cache.CacheStats;
+import com.datingapp.infrastructure.cache.SegmentedLruCache;
+import com.datingapp.infrastructure.persistence.routing.ReadYourWrites;
 
 @Repository
 public class JpaUserRepository implements UserRepository {
+    // Stand-ins for an unbounded birth-date window, inside every database's date range
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
 
     private final SpringDataUserRepository springDataRepo;
-    private final Map<UUID, String> passwordHashCache = new java.util.concurrent.ConcurrentHashMap<>();
-
-    public JpaUserRepository(SpringDataUserRepository springDataRepo) {
+    private final ReadYourWrites readYourWrites;
+
+    /**
+     * Bounded, expiring cache of password hashes for login lookups. Capped at
+     * maxSize entries (~100 bytes per bcrypt hash plus key), so memory stays
+     * flat on long-running nodes. A password change reaches the cache only
+     * once it commits; other nodes keep their entry until it expires, so the
+     * TTL bounds how long an old password still works there.
+     */
+    private final SegmentedLruCache<UUID, String> passwordHashCache;
+
+    public JpaUserRepository(SpringDataUserRepository springDataRepo,
+            ReadYourWrites readYourWrites,
+            @Value("${datingapp.cache.credentials.max-size:10000}") int credentialCacheSize,
+            @Value("${datingapp.cache.credentials.ttl:1m}") Duration credentialCacheTtl) {
         this.springDataRepo = springDataRepo;
+        this.readYourWrites = readYourWrites;
+        this.passwordHashCache = new SegmentedLruCache<>(credentialCacheSize, credentialCacheTtl);
     }
 
     @Override
     public Optional<User> findById(UserId id) {
-        return springDataRepo.findById(id.value()).map(UserMapper::toDomain);
+        return readYourWrites.read(id.value(), () -> springDataRepo.findById(id.value()).map(UserMapper::toDomain));
     }
 
     @Override
@@ -34,30 +61,59 @@ public class JpaUserRepository implements UserRepository {
     }
 
     @Override
+    @Transactional
     public void save(User user) {
         save(user, null);
     }
 
+    /**
+     * Saves the user, changing the password when {@code passwordHash} is set.
+     * Runs read-write, so a profile-only save reads the hash it keeps from the
+     * primary rather than from the cache or a lagging replica, either of which
+     * could write an old hash back over a recent password change.
+     */
+    @Transactional
     public void save(User user, String passwordHash) {
+        UUID id = user.getId().value();
         UserEntity entity = UserMapper.toEntity(user, passwordHash);
-
-        // If password is provided, use it; otherwise check cache
-        if (passwordHash != null) {
-            passwordHashCache.put(user.getId().value(), passwordHash);
-        } else if (passwordHashCache.containsKey(user.getId().value())) {
-            entity.setPasswordHash(passwordHashCache.get(user.getId().value()));
+        if (passwordHash == null) {
+            entity.setPasswordHash(springDataRepo.findPasswordHashById(id).orElse(null));
         }
 
         springDataRepo.save(entity);
+        readYourWrites.wrote(id);
+
+        if (passwordHash != null) {
+            // Logins before the commit still see the old hash; cache the new one only once it is stored
+            passwordHashCache.invalidate(id);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        passwordHashCache.put(id, passwordHash);
+                    } else {
+                        passwordHashCache.invalidate(id);
+                    }
+                }
+            });
+        }
     }
 
     public String getPasswordHash(UserId userId) {
-        return springDataRepo.findById(userId.value())
-                .map(UserEntity::getPasswordHash)
-                .orElse(null);
+        return passwordHashCache.get(userId.value(),
+                id -> springDataRepo.findPasswordHashById(id).orElse(null));
+    }
+
+    public void evictPasswordHash(UserId userId) {
+        passwordHashCache.invalidate(userId.value());
+    }
+
+    public CacheStats credentialCacheStats() {
+        return passwordHashCache.stats();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit) {
         // Using Haversine formula approximation for PostgreSQL
         List<UserEntity> entities = springDataRepo.findDiscoverableInRadius(
@@ -68,6 +124,24 @@ public class JpaUserRepository implements UserRepository {
         return entities.stream().map(UserMapper::toDomain).toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter, Set<UserId> excludedIds) {
+        boolean anyAge = !filter.hasAgeBounds();
+        List<UserEntity> entities = springDataRepo.findDiscoverableInRadiusMatching(
+                center.lat(),
+                center.lon(),
+                radius.kilometers(),
+                anyAge ? EARLIEST_DATE : LocalDate.ofEpochDay(filter.earliestBirthDay()),
+                anyAge ? LATEST_DATE : LocalDate.ofEpochDay(filter.latestBirthDay()),
+                anyAge,
+                filter.requesterAge(),
+                excludedIds.stream().map(UserId::value).toArray(UUID[]::new),
+                limit);
+        return entities.stream().map(UserMapper::toDomain).toList();
+    }
+
     @Override
     public boolean existsById(UserId id) {
         return springDataRepo.existsById(id.value());
@@ -4,11 +4,15 @@ import java.time.Instant;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 /**
  * JPA entity for persisting Match aggregates.
@@ -22,7 +26,7 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "matches")
-public class MatchEntity {
+public class MatchEntity implements Persistable<String> {
 
     @Id
     @Column(length = 73) // "uuid_uuid" format (36 + 36 + 1 underscore)
@@ -38,6 +42,12 @@ public class MatchEntity {
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    // IDs are assigned by the domain, so Spring Data cannot infer newness from a
+    // null ID. Without this flag every save() is a merge (SELECT + INSERT), which
+    // also prevents Hibernate from batching inserts.
+    @Transient
+    private boolean isNew = true;
+
     // Default constructor for JPA
     public MatchEntity() {}
 
@@ -48,7 +58,15 @@ public class MatchEntity {
         this.createdAt = createdAt;
     }
 
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+
     // Getters and setters
+    @Override
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
 
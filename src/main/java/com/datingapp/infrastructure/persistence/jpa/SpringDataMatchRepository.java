@@ -1,5 +1,7 @@
 package com.datingapp.infrastructure.persistence.jpa;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,4 +19,18 @@ public interface SpringDataMatchRepository extends JpaRepository<MatchEntity, St
 
     @Query("SELECT m FROM MatchEntity m WHERE m.userAId = :userId OR m.userBId = :userId")
     List<MatchEntity> findByUser(@Param("userId") UUID userId);
+
+    @Query("""
+            SELECT cast(m.createdAt AS LocalDate) AS day, COUNT(m) AS count FROM MatchEntity m
+            WHERE m.createdAt >= :since
+            GROUP BY cast(m.createdAt AS LocalDate)
+            ORDER BY cast(m.createdAt AS LocalDate)
+            """)
+    List<DailyCount> countPerDaySince(@Param("since") Instant since);
+
+    interface DailyCount {
+        LocalDate getDay();
+
+        long getCount();
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.datingapp.domain.SwipeDirection;
+
 /**
  * Spring Data JPA repository for SwipeEntity.
  * Provides database access through Spring Data's method naming conventions and
@@ -21,4 +23,13 @@ public interface SpringDataSwipeRepository extends JpaRepository<SwipeEntity, UU
 
     @Query("SELECT s FROM SwipeEntity s WHERE s.targetId = :targetId AND (s.direction = 'LIKE' OR s.direction = 'SUPER_LIKE')")
     List<SwipeEntity> findLikersFor(@Param("targetId") UUID targetId);
+
+    @Query("SELECT s.direction AS direction, COUNT(s) AS count FROM SwipeEntity s GROUP BY s.direction ORDER BY s.direction")
+    List<DirectionCount> countByDirection();
+
+    interface DirectionCount {
+        SwipeDirection getDirection();
+
+        long getCount();
+    }
 }
@@ -1,27 +1,55 @@
 package com.datingapp.infrastructure.persistence.jpa;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.datingapp.domain.UserState;
+
+import jakarta.persistence.QueryHint;
+
 public interface SpringDataUserRepository extends JpaRepository<UserEntity, UUID> {
 
         Optional<UserEntity> findByUsername(String username);
 
         boolean existsByUsername(String username);
 
+        /**
+         * Forward-only cursor over all users, ordered by username. Must be consumed
+         * inside a transaction and closed; entities are loaded read-only so the
+         * caller can clear the persistence context as it goes.
+         */
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        Stream<UserEntity> streamAllByOrderByUsernameAsc();
+
+        @Query("SELECT u.state AS state, COUNT(u) AS count FROM UserEntity u GROUP BY u.state ORDER BY u.state")
+        List<StateCount> countByState();
+
+        @Query("SELECT u.passwordHash FROM UserEntity u WHERE u.id = :id")
+        Optional<String> findPasswordHashById(@Param("id") UUID id);
+
+        // The acos argument is clamped: rounding can push it just past 1 when the
+        // centre coincides with a user's own location, which the database rejects.
         @Query(value = """
                         SELECT * FROM users
                         WHERE state = 'ACTIVE'
                         AND latitude IS NOT NULL
                         AND longitude IS NOT NULL
-                        AND (6371 * acos(cos(radians(:centerLat)) * cos(radians(latitude)) *
+                        AND (6371 * acos(least(1.0, greatest(-1.0,
+                             cos(radians(:centerLat)) * cos(radians(latitude)) *
                              cos(radians(longitude) - radians(:centerLon)) +
-                             sin(radians(:centerLat)) * sin(radians(latitude)))) <= :radiusKm
+                             sin(radians(:centerLat)) * sin(radians(latitude)))))) <= :radiusKm
                         LIMIT :limit
                         """, nativeQuery = true)
         List<UserEntity> findDiscoverableInRadius(
@@ -29,4 +57,50 @@ public interface SpringDataUserRepository extends JpaRepository<UserEntity, UUID
                         @Param("centerLon") double centerLon,
                         @Param("radiusKm") double radiusKm,
                         @Param("limit") int limit);
+
+        /**
+         * Radius query with both sides' preferences as plain column predicates:
+         * a birth_date window for the requester's age range, the candidate's own
+         * age range against the requester's age (negative = unknown), and the
+         * candidate's max distance folded into the distance bound. Candidates
+         * without a birth date pass only when {@code anyAge} is set. Excluded ids
+         * are skipped by the query, so paging past seen users reaches new rows.
+         * They are bound as one uuid[] parameter: the statement text stays the
+         * same however many users were seen, so it is planned once and never
+         * approaches the bind-parameter limit.
+         */
+        @Query(value = """
+                        SELECT * FROM users
+                        WHERE state = 'ACTIVE'
+                        AND latitude IS NOT NULL
+                        AND longitude IS NOT NULL
+                        AND (birth_date BETWEEN :earliestBirthDate AND :latestBirthDate
+                             OR (:anyAge AND birth_date IS NULL))
+                        AND (:requesterAge < 0
+                             OR ((age_range_min IS NULL OR age_range_min <= :requesterAge)
+                                 AND (age_range_max IS NULL OR age_range_max >= :requesterAge)))
+                        AND (6371 * acos(least(1.0, greatest(-1.0,
+                             cos(radians(:centerLat)) * cos(radians(latitude)) *
+                             cos(radians(longitude) - radians(:centerLon)) +
+                             sin(radians(:centerLat)) * sin(radians(latitude))))))
+                            <= least(:radiusKm, coalesce(max_distance_km, :radiusKm))
+                        AND id <> ALL(:excludedIds)
+                        LIMIT :limit
+                        """, nativeQuery = true)
+        List<UserEntity> findDiscoverableInRadiusMatching(
+                        @Param("centerLat") double centerLat,
+                        @Param("centerLon") double centerLon,
+                        @Param("radiusKm") double radiusKm,
+                        @Param("earliestBirthDate") LocalDate earliestBirthDate,
+                        @Param("latestBirthDate") LocalDate latestBirthDate,
+                        @Param("anyAge") boolean anyAge,
+                        @Param("requesterAge") int requesterAge,
+                        @Param("excludedIds") UUID[] excludedIds,
+                        @Param("limit") int limit);
+
+        interface StateCount {
+                UserState getState();
+
+                long getCount();
+        }
 }
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import com.datingapp.domain.SwipeDirection;
 
@@ -12,7 +13,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 /**
  * JPA entity for persisting Swipe aggregates.
@@ -20,7 +24,7 @@ import jakarta.persistence.Table;
  */
 @Entity
 @Table(name = "swipes")
-public class SwipeEntity {
+public class SwipeEntity implements Persistable<UUID> {
 
     @Id
     @Column(columnDefinition = "UUID")
@@ -40,6 +44,10 @@ public class SwipeEntity {
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    // Swipes are insert-only; lets save() persist instead of merge (see MatchEntity)
+    @Transient
+    private boolean isNew = true;
+
     // Default constructor for JPA
     public SwipeEntity() {}
 
@@ -51,7 +59,15 @@ public class SwipeEntity {
         this.createdAt = createdAt;
     }
 
+    @Override
+    public boolean isNew() { return isNew; }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() { this.isNew = false; }
+
     // Getters and setters
+    @Override
     public UUID getId() { return id; }
     public void setId(UUID id) { this.id = id; }
 
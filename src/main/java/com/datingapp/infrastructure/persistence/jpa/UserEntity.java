@@ -5,7 +5,9 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import com.datingapp.domain.UserState;
 
@@ -14,10 +16,22 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
+/**
+ * JPA entity for persisting User aggregates.
+ *
+ * Multi-valued profile fields use native column types instead of comma-joined
+ * text: photo URLs and gender preferences are SQL arrays (text[] on PostgreSQL,
+ * ARRAY on H2) and interests are a bitmask keyed by {@link com.datingapp.domain.Interest#bit()}.
+ * See db/migrations/001_user_array_columns.sql for converting existing rows.
+ *
+ * birth_date is indexed for discovery's age filter, which is a birth-date range
+ * (see db/migrations/002_users_birth_date_index.sql for existing databases).
+ */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_birth_date", columnList = "birth_date"))
 public class UserEntity {
 
     @Id
@@ -45,14 +59,13 @@ public class UserEntity {
     private Double latitude;
     private Double longitude;
 
-    @Column(columnDefinition = "TEXT")
-    private String photoUrls;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private String[] photoUrls;
 
-    @Column(columnDefinition = "TEXT")
-    private String interests;
+    private Long interestMask;
 
-    @Column(columnDefinition = "TEXT")
-    private String interestedIn;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private String[] interestedIn;
 
     private Integer ageRangeMin;
     private Integer ageRangeMax;
@@ -154,27 +167,27 @@ public class UserEntity {
         this.longitude = longitude;
     }
 
-    public String getPhotoUrls() {
+    public String[] getPhotoUrls() {
         return photoUrls;
     }
 
-    public void setPhotoUrls(String photoUrls) {
+    public void setPhotoUrls(String[] photoUrls) {
         this.photoUrls = photoUrls;
     }
 
-    public String getInterests() {
-        return interests;
+    public Long getInterestMask() {
+        return interestMask;
     }
 
-    public void setInterests(String interests) {
-        this.interests = interests;
+    public void setInterestMask(Long interestMask) {
+        this.interestMask = interestMask;
     }
 
-    public String getInterestedIn() {
+    public String[] getInterestedIn() {
         return interestedIn;
     }
 
-    public void setInterestedIn(String interestedIn) {
+    public void setInterestedIn(String[] interestedIn) {
         this.interestedIn = interestedIn;
     }
 
@@ -1,11 +1,8 @@
 package com.datingapp.infrastructure.persistence.jpa;
 
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.datingapp.domain.AgeRange;
 import com.datingapp.domain.Distance;
@@ -56,20 +53,17 @@ public final class UserMapper {
             }
 
             if (profile.photoUrls() != null) {
-                entity.setPhotoUrls(String.join(",", profile.photoUrls()));
+                entity.setPhotoUrls(profile.photoUrls().toArray(String[]::new));
             }
 
             if (profile.interests() != null) {
-                String interestsStr = profile.interests().stream()
-                        .map(Interest::name)
-                        .collect(Collectors.joining(","));
-                entity.setInterests(interestsStr);
+                entity.setInterestMask(Interest.toMask(profile.interests()));
             }
 
             Preferences prefs = profile.preferences();
             if (prefs != null) {
                 if (prefs.interestedIn() != null) {
-                    entity.setInterestedIn(String.join(",", prefs.interestedIn()));
+                    entity.setInterestedIn(prefs.interestedIn().toArray(String[]::new));
                 }
                 if (prefs.ageRange() != null) {
                     entity.setAgeRangeMin(prefs.ageRange().min());
@@ -90,23 +84,17 @@ public final class UserMapper {
             location = new Location(entity.getLatitude(), entity.getLongitude());
         }
 
-        List<String> photoUrls = entity.getPhotoUrls() != null && !entity.getPhotoUrls().isBlank()
-                ? Arrays.asList(entity.getPhotoUrls().split(","))
+        List<String> photoUrls = entity.getPhotoUrls() != null
+                ? List.of(entity.getPhotoUrls())
                 : Collections.emptyList();
 
-        Set<Interest> interests = Collections.emptySet();
-        if (entity.getInterests() != null && !entity.getInterests().isBlank()) {
-            interests = Arrays.stream(entity.getInterests().split(","))
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .map(Interest::valueOf)
-                    .collect(Collectors.toSet());
-        }
+        Set<Interest> interests = entity.getInterestMask() != null
+                ? Interest.fromMask(entity.getInterestMask())
+                : Collections.emptySet();
 
-        Set<String> interestedIn = Collections.emptySet();
-        if (entity.getInterestedIn() != null && !entity.getInterestedIn().isBlank()) {
-            interestedIn = new HashSet<>(Arrays.asList(entity.getInterestedIn().split(",")));
-        }
+        Set<String> interestedIn = entity.getInterestedIn() != null
+                ? Set.copyOf(List.of(entity.getInterestedIn()))
+                : Collections.emptySet();
 
         AgeRange ageRange = null;
         if (entity.getAgeRangeMin() != null && entity.getAgeRangeMax() != null) {
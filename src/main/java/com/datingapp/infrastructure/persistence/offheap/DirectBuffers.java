@@ -0,0 +1,29 @@
+package com.datingapp.infrastructure.persistence.offheap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Growth policy shared by the off-heap record table and text arena.
+ */
+final class DirectBuffers {
+    // A ByteBuffer is int-indexed; stay clear of the VM's array size limit
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private DirectBuffers() {
+    }
+
+    /**
+     * Copies the written part of {@code buffer} (up to its position) into a
+     * larger direct buffer of at least {@code required} bytes. The old buffer's
+     * memory is released when it becomes unreachable.
+     */
+    static ByteBuffer grow(ByteBuffer buffer, long required) {
+        if (required > MAX_CAPACITY) {
+            throw new IllegalStateException("Off-heap buffer cannot hold " + required + " bytes");
+        }
+        long doubled = Math.max(required, (long) buffer.capacity() * 2);
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) Math.min(doubled, MAX_CAPACITY));
+        grown.put(buffer.duplicate().flip());
+        return grown;
+    }
+}
@@ -0,0 +1,319 @@
+package com.datingapp.infrastructure.persistence.offheap;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Interest;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.UserState;
+import com.datingapp.domain.repository.UserRepository;
+
+/**
+ * UserRepository that keeps users outside the Java heap, so a population of
+ * millions does not turn into millions of User/Profile/Preferences graphs for
+ * the garbage collector to trace.
+ *
+ * Each user is a fixed-width record in a direct buffer, addressed by an ordinal
+ * assigned on first save. The record holds everything discovery filters on:
+ * id, coordinates, birth epoch-day, interest bits, state and preference bounds,
+ * plus the timestamps (to the millisecond) needed to reconstitute the user with
+ * its stored state. Variable-length text lives in a separate {@link TextArena};
+ * a save whose text is unchanged keeps the existing blob, and the arena is
+ * compacted once released blobs outweigh live ones. Domain objects are built
+ * only for the users a lookup or radius query actually returns; the radius scan
+ * itself reads primitives straight from the record table.
+ *
+ * Only the id and username indexes stay on heap. Reads share a read lock,
+ * saves take the write lock. Memory is released when the repository becomes
+ * unreachable.
+ */
+public class OffHeapUserRepository implements UserRepository {
+    // Record layout, in bytes
+    private static final int ID_MSB = 0;
+    private static final int ID_LSB = 8;
+    private static final int LAT = 16;
+    private static final int LON = 24;
+    private static final int INTEREST_MASK = 32;
+    private static final int MAX_DISTANCE_KM = 40;
+    private static final int BIRTH_EPOCH_DAY = 48;
+    private static final int TEXT_OFFSET = 52;
+    private static final int STATE = 56;
+    private static final int AGE_MIN = 57;
+    private static final int AGE_MAX = 58;
+    private static final int FLAGS = 59;
+    private static final int CREATED_AT_MILLIS = 64;
+    private static final int UPDATED_AT_MILLIS = 72;
+    static final int RECORD_BYTES = 80;
+
+    private static final byte HAS_PROFILE = 1;
+    private static final byte HAS_PREFERENCES = 2;
+    private static final int NO_BIRTH_DATE = Integer.MIN_VALUE;
+    private static final UserState[] STATES = UserState.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UserId, Integer> ordinals = new HashMap<>();
+    private final Map<String, Integer> ordinalByUsername = new HashMap<>();
+    private TextArena text;
+    private ByteBuffer records;
+    private int size;
+
+    public OffHeapUserRepository() {
+        this(1_024);
+    }
+
+    public OffHeapUserRepository(int expectedUsers) {
+        this.records = ByteBuffer.allocateDirect(Math.max(expectedUsers, 16) * RECORD_BYTES);
+        this.text = new TextArena(Math.max(expectedUsers, 16) * 128);
+    }
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            return ordinal == null ? Optional.empty() : Optional.of(materialise(ordinal));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinalByUsername.get(username);
+            return ordinal == null ? Optional.empty() : Optional.of(materialise(ordinal));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the username belongs to another user
+     */
+    @Override
+    public void save(User user) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(user.getId());
+            Integer owner = ordinalByUsername.get(user.getUsername());
+            if (owner != null && !owner.equals(existing)) {
+                throw new IllegalStateException("Username already taken: " + user.getUsername());
+            }
+
+            int ordinal;
+            int previousText = -1;
+            if (existing == null) {
+                ordinal = size;
+                if ((long) (size + 1) * RECORD_BYTES > records.capacity()) {
+                    records.position(size * RECORD_BYTES);
+                    records = DirectBuffers.grow(records, (long) (size + 1) * RECORD_BYTES);
+                }
+                size++;
+                ordinals.put(user.getId(), ordinal);
+            } else {
+                ordinal = existing;
+                previousText = records.getInt(ordinal * RECORD_BYTES + TEXT_OFFSET);
+                String previousUsername = text.reader(previousText).string();
+                if (!previousUsername.equals(user.getUsername())) {
+                    ordinalByUsername.remove(previousUsername);
+                }
+            }
+            ordinalByUsername.put(user.getUsername(), ordinal);
+            write(ordinal * RECORD_BYTES, user, previousText);
+            if (text.deadBytes() > text.bytesUsed() - text.deadBytes()) {
+                compactText();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit) {
+        return findDiscoverableInRadius(center, radius, limit, PreferenceFilter.NONE, Set.of());
+    }
+
+    @Override
+    public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+            PreferenceFilter filter, Set<UserId> excludedIds) {
+        int requesterAge = filter.requesterAge();
+        List<User> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int ordinal = 0; ordinal < size && result.size() < limit; ordinal++) {
+                int base = ordinal * RECORD_BYTES;
+                double lat = records.getDouble(base + LAT);
+                if (!STATES[records.get(base + STATE)].canBeDiscovered() || Double.isNaN(lat)) {
+                    continue;
+                }
+                int birthDay = records.getInt(base + BIRTH_EPOCH_DAY);
+                if (!filter.acceptsBirthDay(birthDay != NO_BIRTH_DATE, birthDay)) {
+                    continue;
+                }
+                byte ageMin = records.get(base + AGE_MIN);
+                if (requesterAge != PreferenceFilter.UNKNOWN_AGE && ageMin != 0
+                        && (requesterAge < ageMin || requesterAge > records.get(base + AGE_MAX))) {
+                    continue;
+                }
+                double km = Location.haversine(center.lat(), center.lon(), lat, records.getDouble(base + LON));
+                // NaN (no max distance) never compares greater
+                if (km <= radius.kilometers() && !(km > records.getDouble(base + MAX_DISTANCE_KM))
+                        && !excludedIds.contains(idAt(base))) {
+                    result.add(materialise(ordinal));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean existsById(UserId id) {
+        lock.readLock().lock();
+        try {
+            return ordinals.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        lock.readLock().lock();
+        try {
+            return ordinalByUsername.containsKey(username);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Off-heap bytes in use: fixed-width records plus profile text.
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) size * RECORD_BYTES + text.bytesUsed();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the record; {@code previousText} is the offset of the user's
+     * current text blob, or -1 on first save.
+     */
+    private void write(int base, User user, int previousText) {
+        Profile profile = user.getProfile();
+        Preferences preferences = profile != null ? profile.preferences() : null;
+        Location location = profile != null ? profile.location() : null;
+        LocalDate birthDate = profile != null ? profile.birthDate() : null;
+        AgeRange ageRange = preferences != null ? preferences.ageRange() : null;
+        Distance maxDistance = preferences != null ? preferences.maxDistance() : null;
+
+        records.putLong(base + ID_MSB, user.getId().value().getMostSignificantBits());
+        records.putLong(base + ID_LSB, user.getId().value().getLeastSignificantBits());
+        records.putDouble(base + LAT, location != null ? location.lat() : Double.NaN);
+        records.putDouble(base + LON, location != null ? location.lon() : Double.NaN);
+        records.putLong(base + INTEREST_MASK, profile != null ? Interest.toMask(profile.interests()) : 0L);
+        records.putDouble(base + MAX_DISTANCE_KM, maxDistance != null ? maxDistance.kilometers() : Double.NaN);
+        records.putInt(base + BIRTH_EPOCH_DAY, birthDate != null ? (int) birthDate.toEpochDay() : NO_BIRTH_DATE);
+        records.put(base + STATE, (byte) user.getState().ordinal());
+        // Ages are capped at 120 by AgeRange, so they fit a byte; 0 means no range
+        records.put(base + AGE_MIN, (byte) (ageRange != null ? ageRange.min() : 0));
+        records.put(base + AGE_MAX, (byte) (ageRange != null ? ageRange.max() : 0));
+        records.put(base + FLAGS, (byte) ((profile != null ? HAS_PROFILE : 0)
+                | (preferences != null ? HAS_PREFERENCES : 0)));
+        records.putLong(base + CREATED_AT_MILLIS, user.getCreatedAt().toEpochMilli());
+        records.putLong(base + UPDATED_AT_MILLIS, user.getUpdatedAt().toEpochMilli());
+
+        String displayName = profile != null ? profile.displayName() : null;
+        String bio = profile != null ? profile.bio() : null;
+        List<String> photoUrls = profile != null ? profile.photoUrls() : List.of();
+        Set<String> interestedIn = preferences != null && preferences.interestedIn() != null
+                ? preferences.interestedIn()
+                : Set.of();
+        if (previousText >= 0 && text.holds(previousText, user.getUsername(), displayName, bio, photoUrls,
+                interestedIn)) {
+            return;
+        }
+        if (previousText >= 0) {
+            text.release(previousText);
+        }
+        records.putInt(base + TEXT_OFFSET, text.append(user.getUsername(), displayName, bio, photoUrls,
+                interestedIn));
+    }
+
+    /**
+     * Copies every live text blob into a fresh arena and repoints the records,
+     * dropping the blobs released by earlier rewrites.
+     */
+    private void compactText() {
+        long live = text.bytesUsed() - text.deadBytes();
+        TextArena compacted = new TextArena((int) Math.min(live + live / 2, Integer.MAX_VALUE - 8));
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            int base = ordinal * RECORD_BYTES;
+            records.putInt(base + TEXT_OFFSET, compacted.copyFrom(text, records.getInt(base + TEXT_OFFSET)));
+        }
+        text = compacted;
+    }
+
+    private UserId idAt(int base) {
+        return UserId.of(new UUID(records.getLong(base + ID_MSB), records.getLong(base + ID_LSB)));
+    }
+
+    private User materialise(int ordinal) {
+        int base = ordinal * RECORD_BYTES;
+        UserId id = idAt(base);
+        byte flags = records.get(base + FLAGS);
+        TextArena.Reader reader = text.reader(records.getInt(base + TEXT_OFFSET));
+        String username = reader.string();
+        String displayName = reader.string();
+        String bio = reader.string();
+        List<String> photoUrls = reader.strings();
+        List<String> interestedIn = reader.strings();
+
+        Profile profile = null;
+        if ((flags & HAS_PROFILE) != 0) {
+            double lat = records.getDouble(base + LAT);
+            int birthEpochDay = records.getInt(base + BIRTH_EPOCH_DAY);
+            profile = new Profile(id, displayName, bio,
+                    birthEpochDay != NO_BIRTH_DATE ? LocalDate.ofEpochDay(birthEpochDay) : null,
+                    Interest.fromMask(records.getLong(base + INTEREST_MASK)),
+                    (flags & HAS_PREFERENCES) != 0 ? preferences(base, interestedIn) : null,
+                    Double.isNaN(lat) ? null : new Location(lat, records.getDouble(base + LON)),
+                    photoUrls);
+        }
+
+        return User.reconstitute(id, username, profile, STATES[records.get(base + STATE)],
+                Instant.ofEpochMilli(records.getLong(base + CREATED_AT_MILLIS)),
+                Instant.ofEpochMilli(records.getLong(base + UPDATED_AT_MILLIS)));
+    }
+
+    private Preferences preferences(int base, List<String> interestedIn) {
+        byte ageMin = records.get(base + AGE_MIN);
+        double maxDistanceKm = records.getDouble(base + MAX_DISTANCE_KM);
+        return new Preferences(Set.copyOf(interestedIn),
+                ageMin != 0 ? AgeRange.of(ageMin, records.get(base + AGE_MAX)) : null,
+                Double.isNaN(maxDistanceKm) ? null : Distance.ofKilometers(maxDistanceKm));
+    }
+}
@@ -0,0 +1,165 @@
+package com.datingapp.infrastructure.persistence.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Append-only direct buffer holding the variable-length text of each user:
+ * username, display name, bio, photo URLs and gender preferences.
+ *
+ * A blob is addressed by the offset returned from {@link #append}. Blobs are
+ * never rewritten in place: the owner checks {@link #holds} to keep a blob
+ * whose text did not change, and {@link #release}s the old one when it does.
+ * Released bytes stay dead until the owner copies the live blobs into a fresh
+ * arena with {@link #copyFrom}. Not thread-safe: callers synchronise.
+ */
+final class TextArena {
+    private static final int NULL_LENGTH = -1;
+
+    private ByteBuffer buffer;
+    private long deadBytes;
+
+    TextArena(int initialCapacity) {
+        this.buffer = ByteBuffer.allocateDirect(Math.max(initialCapacity, 64));
+    }
+
+    int append(String username, String displayName, String bio, List<String> photoUrls,
+            Collection<String> interestedIn) {
+        int offset = buffer.position();
+        putString(username);
+        putString(displayName);
+        putString(bio);
+        putStrings(photoUrls);
+        putStrings(interestedIn);
+        return offset;
+    }
+
+    /**
+     * Whether the blob at {@code offset} holds exactly this text.
+     */
+    boolean holds(int offset, String username, String displayName, String bio, List<String> photoUrls,
+            Collection<String> interestedIn) {
+        Reader reader = reader(offset);
+        return Objects.equals(reader.string(), username)
+                && Objects.equals(reader.string(), displayName)
+                && Objects.equals(reader.string(), bio)
+                && reader.strings().equals(photoUrls)
+                // Preferences hold a set; compare as one regardless of iteration order
+                && Set.copyOf(reader.strings()).equals(Set.copyOf(interestedIn));
+    }
+
+    /**
+     * Marks the blob at {@code offset} as no longer referenced.
+     */
+    void release(int offset) {
+        deadBytes += blobLength(offset);
+    }
+
+    /**
+     * Appends a copy of a blob from another arena and returns its offset here.
+     */
+    int copyFrom(TextArena source, int offset) {
+        int length = blobLength(source.buffer, offset);
+        ensureRemaining(length);
+        int copied = buffer.position();
+        buffer.put(source.buffer.duplicate().position(offset).limit(offset + length));
+        return copied;
+    }
+
+    Reader reader(int offset) {
+        return new Reader(buffer.duplicate().position(offset));
+    }
+
+    long bytesUsed() {
+        return buffer.position();
+    }
+
+    long deadBytes() {
+        return deadBytes;
+    }
+
+    private int blobLength(int offset) {
+        return blobLength(buffer, offset);
+    }
+
+    private static int blobLength(ByteBuffer buffer, int offset) {
+        int position = offset;
+        for (int i = 0; i < 3; i++) {
+            position = skipString(buffer, position);
+        }
+        for (int i = 0; i < 2; i++) {
+            int count = buffer.getInt(position);
+            position += Integer.BYTES;
+            for (int j = 0; j < count; j++) {
+                position = skipString(buffer, position);
+            }
+        }
+        return position - offset;
+    }
+
+    private static int skipString(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        return position + Integer.BYTES + Math.max(length, 0);
+    }
+
+    private void putStrings(Collection<String> values) {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(values.size());
+        for (String value : values) {
+            putString(value);
+        }
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(Integer.BYTES + bytes.length);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            buffer = DirectBuffers.grow(buffer, (long) buffer.position() + bytes);
+        }
+    }
+
+    /**
+     * Decodes one blob in the order it was appended.
+     */
+    static final class Reader {
+        private final ByteBuffer view;
+
+        private Reader(ByteBuffer view) {
+            this.view = view;
+        }
+
+        String string() {
+            int length = view.getInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            view.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        List<String> strings() {
+            int count = view.getInt();
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(string());
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.datingapp.infrastructure.persistence.profiling;
+
+/**
+ * Aggregated execution statistics for one query string.
+ */
+public record QueryProfile(String query, long executions, long totalMillis, long maxMillis, long rows) {
+
+    public double meanMillis() {
+        return executions == 0 ? 0.0 : (double) totalMillis / executions;
+    }
+}
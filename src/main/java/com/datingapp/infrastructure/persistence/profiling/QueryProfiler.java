@@ -0,0 +1,50 @@
+package com.datingapp.infrastructure.persistence.profiling;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Per-query execution statistics backed by Hibernate's Statistics.
+ *
+ * Statistics are switched on when the profiler is created, so nothing is
+ * collected unless profiling is enabled. Covers JPQL, derived Spring Data
+ * queries and native queries alike, keyed by their query string.
+ */
+public class QueryProfiler {
+    private final Statistics statistics;
+
+    public QueryProfiler(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * The n queries with the highest total execution time.
+     */
+    public List<QueryProfile> top(int n) {
+        return Arrays.stream(statistics.getQueries())
+                .map(this::profile)
+                .filter(profile -> profile.executions() > 0)
+                .sorted(Comparator.comparingLong(QueryProfile::totalMillis).reversed()
+                        .thenComparing(Comparator.comparingLong(QueryProfile::executions).reversed()))
+                .limit(n)
+                .toList();
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    private QueryProfile profile(String query) {
+        QueryStatistics stats = statistics.getQueryStatistics(query);
+        return new QueryProfile(query, stats.getExecutionCount(), stats.getExecutionTotalTime(),
+                stats.getExecutionMaxTime(), stats.getExecutionRowCount());
+    }
+}
@@ -0,0 +1,132 @@
+package com.datingapp.infrastructure.persistence.profiling;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Logs every JDBC statement slower than a threshold together with its bound
+ * parameters.
+ *
+ * Connections and statements are wrapped in JDK proxies that remember the last
+ * setXxx values per index and time the execute* calls; everything else passes
+ * straight through. Parameters are logged by type only, because bound values
+ * include user ids, usernames, coordinates and password hashes. Values are
+ * logged only when explicitly enabled, for reproducing a slow query locally.
+ */
+public class SlowQueryLoggingDataSource extends DelegatingDataSource implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLoggingDataSource.class);
+
+    private final long thresholdNanos;
+    private final boolean logParameterValues;
+
+    public SlowQueryLoggingDataSource(DataSource target, Duration threshold) {
+        this(target, threshold, false);
+    }
+
+    public SlowQueryLoggingDataSource(DataSource target, Duration threshold, boolean logParameterValues) {
+        super(target);
+        this.thresholdNanos = threshold.toNanos();
+        this.logParameterValues = logParameterValues;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    /**
+     * Closes the wrapped pool, so container shutdown still releases connections.
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return wrapStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        Map<Integer, Object> parameters = new TreeMap<>();
+
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.startsWith("execute")) {
+                long started = System.nanoTime();
+                try {
+                    return invoke(statement, method, args);
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    if (elapsed >= thresholdNanos) {
+                        String sql = preparedSql != null ? preparedSql
+                                : args != null && args.length > 0 ? String.valueOf(args[0]) : "<batch>";
+                        logger.warn("Slow query ({} ms): {} | parameters: {}",
+                                Duration.ofNanos(elapsed).toMillis(), sql.strip().replaceAll("\\s+", " "),
+                                describe(parameters));
+                    }
+                }
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private Object describe(Map<Integer, Object> parameters) {
+        if (logParameterValues) {
+            return parameters.values();
+        }
+        return parameters.values().stream()
+                .map(value -> value == null ? "null" : value.getClass().getSimpleName())
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SlowQueryLoggingDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
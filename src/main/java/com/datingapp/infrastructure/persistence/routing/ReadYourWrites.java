@@ -0,0 +1,63 @@
+package com.datingapp.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.datingapp.infrastructure.cache.SegmentedLruCache;
+
+/**
+ * Per-user read-your-writes for {@link ReplicaRoutingDataSource}.
+ *
+ * Repository adapters report which users a write affected; for
+ * {@code maxReplicaLag} afterwards, reads made on behalf of those users through
+ * {@link #read} are pinned to the primary, whichever thread or request serves
+ * them. Other users' reads keep going to the replica. The pin lasts only for
+ * the duration of the read and is not inherited by threads it starts.
+ *
+ * At most {@code maxTrackedUsers} recent writers are remembered; under more
+ * write traffic than that, the least recently active writers fall back to the
+ * replica early.
+ */
+public class ReadYourWrites {
+    private final SegmentedLruCache<UUID, Boolean> recentWriters;
+    private final ThreadLocal<Boolean> pinnedToPrimary = new ThreadLocal<>();
+
+    public ReadYourWrites(Duration maxReplicaLag, int maxTrackedUsers) {
+        this(maxReplicaLag, maxTrackedUsers, System::nanoTime);
+    }
+
+    public ReadYourWrites(Duration maxReplicaLag, int maxTrackedUsers, LongSupplier nanoClock) {
+        this.recentWriters = new SegmentedLruCache<>(maxTrackedUsers, maxReplicaLag, nanoClock);
+    }
+
+    /**
+     * Records a write that the given users must see in their next reads.
+     */
+    public void wrote(UUID... users) {
+        for (UUID user : users) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Runs a read made on behalf of {@code user}, on the primary if the user
+     * wrote within the replica lag.
+     */
+    public <T> T read(UUID user, Supplier<T> read) {
+        if (recentWriters.getIfPresent(user) == null || pinnedToPrimary.get() != null) {
+            return read.get();
+        }
+        pinnedToPrimary.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            pinnedToPrimary.remove();
+        }
+    }
+
+    boolean isPinnedToPrimary() {
+        return pinnedToPrimary.get() != null;
+    }
+}
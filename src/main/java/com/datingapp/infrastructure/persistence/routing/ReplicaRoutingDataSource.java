@@ -0,0 +1,54 @@
+package com.datingapp.infrastructure.persistence.routing;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to a replica and everything else to the primary.
+ *
+ * Read-your-writes is tracked per user by {@link ReadYourWrites}: reads made on
+ * behalf of a user who wrote within the replica lag stay on the primary, so a
+ * user who just swiped does not get a feed computed from a replica that has not
+ * caught up with that swipe yet, whichever request thread serves them.
+ *
+ * The routing decision reads the transaction's read-only flag, which Spring sets
+ * after the transaction manager has asked for a connection. Always use it
+ * through {@link #lazy(DataSource, DataSource, ReadYourWrites)}, which defers the
+ * physical connection until the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWrites readYourWrites;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static DataSource lazy(DataSource primary, DataSource replica, ReadYourWrites readYourWrites) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, readYourWrites));
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    Route currentRoute() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWrites.isPinnedToPrimary()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,139 @@
+package com.datingapp.loadgen;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.datingapp.domain.Match;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.domain.repository.SwipeRepository;
+import com.datingapp.domain.repository.UserRepository;
+
+/**
+ * Open-loop driver of discovery + swipe sessions.
+ *
+ * Sessions arrive at a fixed rate, each on its own virtual thread, whether or
+ * not earlier ones have finished - so a saturated system shows up as growing
+ * session latency rather than a silently lowered request rate. A session picks
+ * a swiper by Zipf rank (a few heavy users swipe most), loads its prospects and
+ * swipes on each, liking with a probability skewed towards popular targets.
+ * Counters accumulate across calls, so use one instance per run.
+ */
+public final class LoadGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double MAX_LIKE_PROBABILITY = 0.9;
+
+    private final MatchingService matchingService;
+    private final UserRepository userRepository;
+    private final SwipeRepository swipeRepository;
+
+    private final LatencyHistogram discoveryLatency = new LatencyHistogram();
+    private final LatencyHistogram swipeLatency = new LatencyHistogram();
+    private final LatencyHistogram sessionLatency = new LatencyHistogram();
+    private final LongAdder sessions = new LongAdder();
+    private final LongAdder emptySessions = new LongAdder();
+    private final LongAdder swipes = new LongAdder();
+    private final LongAdder likes = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicReference<RuntimeException> firstError = new AtomicReference<>();
+
+    public LoadGenerator(MatchingService matchingService, UserRepository userRepository,
+            SwipeRepository swipeRepository) {
+        this.matchingService = matchingService;
+        this.userRepository = userRepository;
+        this.swipeRepository = swipeRepository;
+    }
+
+    public LoadReport run(UserId[] population, LoadSettings settings) {
+        ZipfSampler swipers = new ZipfSampler(population.length, settings.zipfExponent());
+        long intervalNanos = (long) (1_000_000_000L / settings.sessionsPerSecond());
+        long started = System.nanoTime();
+        long deadline = started + settings.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0;; i++) {
+                long scheduledAt = started + i * intervalNanos;
+                if (scheduledAt >= deadline) {
+                    break;
+                }
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long sessionSeed = settings.seed() + i * GOLDEN_GAMMA;
+                executor.execute(() -> runSession(population, swipers, settings, sessionSeed, scheduledAt));
+            }
+        } // close() waits for in-flight sessions
+
+        return new LoadReport(Duration.ofNanos(System.nanoTime() - started),
+                sessions.sum(), emptySessions.sum(), swipes.sum(), likes.sum(), matches.sum(), errors.sum(),
+                discoveryLatency, swipeLatency, sessionLatency);
+    }
+
+    public Optional<RuntimeException> firstError() {
+        return Optional.ofNullable(firstError.get());
+    }
+
+    /**
+     * Chance of liking a user: ~90% for the most popular, falling off as a
+     * power law of the popularity percentile.
+     */
+    static double likeProbability(UserId target, double zipfExponent) {
+        double rank = 1.0 - PopulationGenerator.popularity(target);
+        return MAX_LIKE_PROBABILITY * Math.pow(1.0 + 100.0 * rank, -zipfExponent);
+    }
+
+    private void runSession(UserId[] population, ZipfSampler swipers, LoadSettings settings,
+            long sessionSeed, long scheduledAt) {
+        try {
+            SplittableRandom random = new SplittableRandom(sessionSeed);
+            UserId swiperId = population[swipers.sample(random) - 1];
+            User swiper = userRepository.findById(swiperId)
+                    .orElseThrow(() -> new IllegalStateException("Generated user missing: " + swiperId));
+            Set<UserId> alreadySwiped = swipeRepository.findSwipedUserIds(swiperId);
+
+            long discoveryStart = System.nanoTime();
+            List<Prospect> prospects = matchingService.findProspects(swiper,
+                    swiper.getProfile().preferences().maxDistance(), settings.swipesPerSession(), alreadySwiped);
+            discoveryLatency.recordNanos(System.nanoTime() - discoveryStart);
+            if (prospects.isEmpty()) {
+                emptySessions.increment();
+            }
+
+            for (Prospect prospect : prospects) {
+                boolean like = random.nextDouble() < likeProbability(prospect.userId(), settings.zipfExponent());
+                long swipeStart = System.nanoTime();
+                Optional<Match> match = matchingService.processSwipe(swiperId, prospect.userId(),
+                        like ? SwipeDirection.LIKE : SwipeDirection.DISLIKE);
+                swipeLatency.recordNanos(System.nanoTime() - swipeStart);
+
+                swipes.increment();
+                if (like) {
+                    likes.increment();
+                }
+                if (match.isPresent()) {
+                    matches.increment();
+                }
+            }
+            sessions.increment();
+        } catch (RuntimeException e) {
+            errors.increment();
+            firstError.compareAndSet(null, e);
+        } finally {
+            // Measured from the scheduled start, so queueing delay is included
+            sessionLatency.recordNanos(System.nanoTime() - scheduledAt);
+        }
+    }
+}
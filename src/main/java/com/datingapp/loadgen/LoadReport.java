@@ -0,0 +1,43 @@
+package com.datingapp.loadgen;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a load-generation run.
+ *
+ * {@code emptySessions} counts the sessions (included in {@code sessions})
+ * whose discovery returned no prospects, typically heavy swipers who have
+ * swiped everyone in range. They cost a discovery query but no swipes, so a
+ * high share makes the swipe rate understate what the system sustains.
+ */
+public record LoadReport(Duration elapsed, long sessions, long emptySessions, long swipes, long likes, long matches,
+        long errors, LatencyHistogram discoveryLatency, LatencyHistogram swipeLatency,
+        LatencyHistogram sessionLatency) {
+
+    public double sessionsPerSecond() {
+        return perSecond(sessions);
+    }
+
+    public double swipesPerSecond() {
+        return perSecond(swipes);
+    }
+
+    /**
+     * Share of sessions that found no prospects to swipe on.
+     */
+    public double emptySessionRate() {
+        return sessions == 0 ? 0.0 : (double) emptySessions / sessions;
+    }
+
+    /**
+     * Share of likes that completed a mutual match.
+     */
+    public double matchRate() {
+        return likes == 0 ? 0.0 : (double) matches / likes;
+    }
+
+    private double perSecond(long count) {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? count : count * 1000.0 / millis;
+    }
+}
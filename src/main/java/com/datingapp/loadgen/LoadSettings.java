@@ -0,0 +1,26 @@
+package com.datingapp.loadgen;
+
+import java.time.Duration;
+
+/**
+ * Parameters of one load-generation run.
+ *
+ * @param users             population size
+ * @param seed              seed for the population and for every session
+ * @param sessionsPerSecond target arrival rate of discovery sessions
+ * @param duration          how long new sessions keep arriving
+ * @param swipesPerSession  prospects requested, and swiped on, per session
+ * @param zipfExponent      skew of both swiper activity and like probability
+ */
+public record LoadSettings(int users, long seed, double sessionsPerSecond, Duration duration,
+        int swipesPerSession, double zipfExponent) {
+
+    public LoadSettings {
+        if (users < 2)
+            throw new IllegalArgumentException("Need at least two users");
+        if (sessionsPerSecond <= 0)
+            throw new IllegalArgumentException("Session rate must be positive");
+        if (swipesPerSession < 1)
+            throw new IllegalArgumentException("Swipes per session must be positive");
+    }
+}
@@ -0,0 +1,128 @@
+package com.datingapp.loadgen;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Interest;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.UserRepository;
+
+/**
+ * Seeded, reproducible synthetic population.
+ *
+ * User i is derived only from (seed, i): same seed, same users, same ids, so
+ * re-running against an existing database updates rows instead of duplicating
+ * them. Users cluster around a fixed set of cities weighted by size, and each
+ * user carries a popularity percentile (also derived from its id) that drives
+ * the skew in who receives likes.
+ */
+public final class PopulationGenerator {
+
+    private record City(String name, double lat, double lon, double weight, double spreadDegrees) {
+    }
+
+    private static final List<City> CITIES = List.of(
+            new City("New York", 40.7128, -74.0060, 0.26, 0.20),
+            new City("Los Angeles", 34.0522, -118.2437, 0.18, 0.25),
+            new City("Chicago", 41.8781, -87.6298, 0.12, 0.15),
+            new City("Houston", 29.7604, -95.3698, 0.10, 0.18),
+            new City("London", 51.5074, -0.1278, 0.14, 0.15),
+            new City("Berlin", 52.5200, 13.4050, 0.08, 0.12),
+            new City("Tel Aviv", 32.0853, 34.7818, 0.07, 0.08),
+            new City("Sydney", -33.8688, 151.2093, 0.05, 0.15));
+
+    private static final Interest[] INTERESTS = Interest.values();
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int PROGRESS_STEP = 10_000;
+    // Fixed rather than LocalDate.now() so the same seed yields the same rows on any day
+    private static final LocalDate BIRTH_DATE_ORIGIN = LocalDate.of(2025, 1, 1);
+
+    private final long seed;
+
+    public PopulationGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Saves users 0..size-1 and returns their ids, indexed like the users.
+     */
+    public UserId[] populate(UserRepository repository, int size, LongConsumer progressListener) {
+        UserId[] ids = new UserId[size];
+        for (int i = 0; i < size; i++) {
+            User user = user(i);
+            repository.save(user);
+            ids[i] = user.getId();
+            if ((i + 1) % PROGRESS_STEP == 0) {
+                progressListener.accept(i + 1);
+            }
+        }
+        progressListener.accept(size);
+        return ids;
+    }
+
+    public User user(int index) {
+        SplittableRandom random = new SplittableRandom(seed + index * GOLDEN_GAMMA);
+        UserId id = new UserId(new UUID(random.nextLong(), random.nextLong()));
+        String username = "lg" + index;
+
+        City city = pickCity(random.nextDouble());
+        Location location = new Location(
+                clamp(city.lat() + random.nextGaussian() * city.spreadDegrees(), -90, 90),
+                clamp(city.lon() + random.nextGaussian() * city.spreadDegrees(), -180, 180));
+
+        Set<Interest> interests = EnumSet.noneOf(Interest.class);
+        int interestCount = 1 + random.nextInt(4);
+        for (int i = 0; i < interestCount; i++) {
+            interests.add(INTERESTS[random.nextInt(INTERESTS.length)]);
+        }
+
+        int age = 18 + random.nextInt(42);
+        Profile profile = new Profile(id, username, "Generated by loadgen",
+                BIRTH_DATE_ORIGIN.minusYears(age).minusDays(random.nextInt(365)),
+                interests,
+                new Preferences(Set.of("ALL"),
+                        AgeRange.of(Math.max(18, age - 8), Math.min(99, age + 8)),
+                        Distance.ofKilometers(10 + random.nextInt(91))),
+                location,
+                List.of("https://example.com/" + username + ".jpg"));
+        return new User(id, username, profile);
+    }
+
+    /**
+     * Popularity percentile in (0, 1], 1 being the most sought-after user.
+     * A pure function of the id, so it needs no per-user state at runtime.
+     */
+    public static double popularity(UserId id) {
+        long bits = id.value().getMostSignificantBits() ^ id.value().getLeastSignificantBits();
+        bits ^= bits >>> 33;
+        bits *= 0xff51afd7ed558ccdL;
+        bits ^= bits >>> 33;
+        return ((bits >>> 11) + 1) * 0x1.0p-53;
+    }
+
+    private static City pickCity(double draw) {
+        double cumulative = 0;
+        for (City city : CITIES) {
+            cumulative += city.weight();
+            if (draw < cumulative) {
+                return city;
+            }
+        }
+        return CITIES.get(CITIES.size() - 1);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,42 @@
+-- ══════════════════════════════════════════════════════════════════════════════
+--            001: users multi-valued columns -> native arrays / bitmask
+-- ══════════════════════════════════════════════════════════════════════════════
+-- PostgreSQL only. Run once against databases created before UserEntity switched
+-- from comma-joined TEXT columns to native types (ddl-auto=update does not change
+-- existing column types):
+--
+--   psql -d datingapp -f src/main/resources/db/migrations/001_user_array_columns.sql
+--
+-- Interest bit positions follow Interest.ordinal(); keep the array below in the
+-- same order as the enum.
+
+BEGIN;
+
+ALTER TABLE users
+    ALTER COLUMN photo_urls TYPE text[]
+    USING CASE WHEN photo_urls IS NULL OR photo_urls = '' THEN NULL
+               ELSE string_to_array(photo_urls, ',') END;
+
+ALTER TABLE users
+    ALTER COLUMN interested_in TYPE text[]
+    USING CASE WHEN interested_in IS NULL OR interested_in = '' THEN NULL
+               ELSE string_to_array(interested_in, ',') END;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS interest_mask bigint;
+
+UPDATE users u
+SET interest_mask = (
+    SELECT COALESCE(SUM(DISTINCT 1::bigint << (array_position(
+               ARRAY['HIKING', 'MUSIC', 'TRAVEL', 'MOVIES', 'READING',
+                     'COOKING', 'GAMING', 'FITNESS', 'PHOTOGRAPHY', 'ART'],
+               trim(i)) - 1)), 0)
+    FROM unnest(string_to_array(u.interests, ',')) AS i
+)
+WHERE u.interests IS NOT NULL AND u.interests <> '';
+
+ALTER TABLE users DROP COLUMN interests;
+
+-- Containment filters on gender preferences: interested_in @> ARRAY['F']
+CREATE INDEX IF NOT EXISTS idx_users_interested_in ON users USING GIN (interested_in);
+
+COMMIT;
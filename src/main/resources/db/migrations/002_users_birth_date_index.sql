@@ -0,0 +1,12 @@
+-- ══════════════════════════════════════════════════════════════════════════════
+--            002: users.birth_date index for discovery age filtering
+-- ══════════════════════════════════════════════════════════════════════════════
+-- PostgreSQL. Discovery turns the requester's age range into a birth_date range
+-- (birth_date BETWEEN :earliestBirthDate AND :latestBirthDate), so the filter is
+-- an index range scan instead of computing every candidate's age. CONCURRENTLY
+-- keeps the table writable while the index builds, so it cannot run inside a
+-- transaction block:
+--
+--   psql -d datingapp -f src/main/resources/db/migrations/002_users_birth_date_index.sql
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_birth_date ON users (birth_date);
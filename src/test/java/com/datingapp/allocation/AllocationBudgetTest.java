@@ -0,0 +1,144 @@
+package com.datingapp.allocation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.Swipe;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.matching.DistanceStrategy;
+import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+import com.datingapp.loadgen.PopulationGenerator;
+
+/**
+ * Allocation budgets for the discovery and swipe hot paths.
+ *
+ * Each budget is bytes per call on a fixed fixture, with headroom over the
+ * measured value. A failure means a change made the operation allocate
+ * noticeably more; if that is intended, re-measure and raise the budget in
+ * the same commit. The budgets run with every build, so warm-up and round
+ * sizes are kept to what gives stable numbers: cheap calls need many
+ * operations for the JIT to inline and escape-analyse them, while a
+ * discovery call scans the whole fixture and compiles within a few hundred.
+ */
+class AllocationBudgetTest {
+
+    private static final int POPULATION = 2_000;
+    private static final long SEED = 42L;
+    // About two seconds for the whole class
+    private static final int MICRO_WARMUP = 50_000;
+    private static final int MICRO_ROUND = 100_000;
+    private static final int DISCOVERY_WARMUP = 400;
+    private static final int DISCOVERY_ROUND = 40;
+
+    // Measured on JDK 21 (B/op): score 0, distanceTo 24 (the returned Distance),
+    // findByPair 248 (pair key string), findProspects ~30,700
+    private static final double SCORE_BUDGET = 32;
+    private static final double DISTANCE_BUDGET = 48;
+    private static final double FIND_BY_PAIR_BUDGET = 384;
+    private static final double FIND_PROSPECTS_BUDGET = 48_000;
+
+    private static List<User> population;
+
+    private MatchScorer scorer;
+    private InMemorySwipeRepository swipes;
+    private MatchingService matchingService;
+    private User requester;
+
+    // Results are written here so the JIT cannot drop the measured calls
+    private double doubleSink;
+    private Object objectSink;
+    private int cursor;
+
+    @BeforeAll
+    static void checkSupport() {
+        assumeTrue(AllocationMeter.isSupported(), "thread allocation accounting not available on this JVM");
+        PopulationGenerator generator = new PopulationGenerator(SEED);
+        population = IntStream.range(0, POPULATION).mapToObj(generator::user).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        scorer = new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100))));
+        InMemoryUserRepository users = new InMemoryUserRepository();
+        population.forEach(users::save);
+        swipes = new InMemorySwipeRepository();
+        for (int i = 0; i < POPULATION; i++) {
+            swipes.saveIfNotExists(Swipe.create(population.get(i).getId(),
+                    population.get((i + 1) % POPULATION).getId(), SwipeDirection.LIKE));
+        }
+        matchingService = new MatchingService(scorer, users, swipes, new InMemoryMatchRepository(), event -> {
+        });
+        requester = population.get(0);
+    }
+
+    @Test
+    void matchScorerScore_shouldStayWithinBudget() {
+        double bytes = AllocationMeter.bytesPerOperation(MICRO_WARMUP, MICRO_ROUND,
+                () -> doubleSink += scorer.score(next(), requester));
+
+        assertWithinBudget("MatchScorer.score", bytes, SCORE_BUDGET);
+    }
+
+    @Test
+    void locationDistanceTo_shouldStayWithinBudget() {
+        Location origin = requester.getProfile().location();
+
+        double bytes = AllocationMeter.bytesPerOperation(MICRO_WARMUP, MICRO_ROUND,
+                () -> objectSink = origin.distanceTo(next().getProfile().location()));
+
+        assertWithinBudget("Location.distanceTo", bytes, DISTANCE_BUDGET);
+    }
+
+    @Test
+    void swipeFindByPair_shouldStayWithinBudget() {
+        double bytes = AllocationMeter.bytesPerOperation(MICRO_WARMUP, MICRO_ROUND, () -> {
+            int i = cursor++ % POPULATION;
+            Optional<Swipe> swipe = swipes.findByPair(population.get(i).getId(),
+                    population.get((i + 1) % POPULATION).getId());
+            objectSink = swipe;
+        });
+
+        assertWithinBudget("InMemorySwipeRepository.findByPair", bytes, FIND_BY_PAIR_BUDGET);
+    }
+
+    @Test
+    void findProspects_shouldStayWithinBudget() {
+        Distance radius = Distance.ofKilometers(50);
+        Set<UserId> excluded = Collections.emptySet();
+
+        double bytes = AllocationMeter.bytesPerOperation(DISCOVERY_WARMUP, DISCOVERY_ROUND, () -> {
+            List<Prospect> prospects = matchingService.findProspects(requester, radius, 20, excluded);
+            objectSink = prospects;
+        });
+
+        assertWithinBudget("MatchingService.findProspects", bytes, FIND_PROSPECTS_BUDGET);
+    }
+
+    private User next() {
+        return population.get(cursor++ % POPULATION);
+    }
+
+    private static void assertWithinBudget(String operation, double bytes, double budget) {
+        assertTrue(bytes <= budget,
+                () -> String.format("%s allocated %.1f B/op, budget is %.0f B/op", operation, bytes, budget));
+    }
+}
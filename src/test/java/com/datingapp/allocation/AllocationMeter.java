@@ -0,0 +1,48 @@
+package com.datingapp.allocation;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures heap bytes allocated per operation on the calling thread.
+ *
+ * Runs a warm-up so the JIT has compiled (and escape-analysed) the operation,
+ * then takes the lowest per-operation figure over several rounds, which
+ * filters out one-off allocations such as TLAB refills or lazy initialisation.
+ */
+final class AllocationMeter {
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final int ROUNDS = 5;
+
+    private AllocationMeter() {
+    }
+
+    static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * @param warmupOperations enough calls for the JIT to compile the
+     *                         operation; a cheap call needs tens of
+     *                         thousands, one with an inner loop far fewer
+     */
+    static double bytesPerOperation(int warmupOperations, int operationsPerRound, Runnable operation) {
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < warmupOperations; i++) {
+            operation.run();
+        }
+
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < operationsPerRound; i++) {
+                operation.run();
+            }
+            long allocated = THREADS.getThreadAllocatedBytes(threadId) - before;
+            best = Math.min(best, (double) allocated / operationsPerRound);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,162 @@
+package com.datingapp.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Measures wall-clock startup of the cli profile in fresh JVMs: the context is
+ * refreshed and the process exits before any runner executes, so only startup
+ * is timed. Each variant is launched several times and the fastest run is kept.
+ *
+ * The AOT variant is included when the classes were built with
+ * mvn -Pcli-startup package.
+ *
+ * Run with: mvn test -Pbenchmarks -Dtest=CliStartupBenchmark
+ */
+@Tag("benchmark")
+class CliStartupBenchmark {
+
+    private static final int RUNS = 3;
+    private static final String AOT_INITIALIZER = "com.datingapp.DatingApplication__ApplicationContextInitializer";
+
+    @TempDir
+    Path workDir;
+
+    private String classPath;
+
+    @Test
+    void cliProfile_shouldStartFasterThanEagerDefaults() throws Exception {
+        classPath = jarredClassPath();
+
+        // Eager context, schema inspection and JDBC metadata lookups: the cli profile before tuning
+        long baseline = fastestStartMillis(List.of(),
+                "--spring.main.lazy-initialization=false",
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true");
+        long tuned = fastestStartMillis(List.of());
+
+        Path archive = workDir.resolve("cli.jsa");
+        start(List.of("-XX:ArchiveClassesAtExit=" + archive));
+        boolean archived = Files.exists(archive);
+        long cds = archived ? fastestStartMillis(List.of("-XX:SharedArchiveFile=" + archive)) : -1;
+
+        // AOT loads a different set of classes, so it gets its own training run
+        long aot = -1;
+        if (archived && isPresent(AOT_INITIALIZER)) {
+            Path aotArchive = workDir.resolve("cli-aot.jsa");
+            start(List.of("-XX:ArchiveClassesAtExit=" + aotArchive, "-Dspring.aot.enabled=true"));
+            aot = fastestStartMillis(List.of("-XX:SharedArchiveFile=" + aotArchive, "-Dspring.aot.enabled=true"));
+        }
+
+        System.out.printf("%nCLI startup (fastest of %d, H2):%n", RUNS);
+        System.out.printf("   eager defaults:      %,6d ms%n", baseline);
+        System.out.printf("   cli profile:         %,6d ms  (%.1fx)%n", tuned, (double) baseline / tuned);
+        if (archived) {
+            System.out.printf("   + AppCDS:            %,6d ms  (%.1fx)%n", cds, (double) baseline / cds);
+        }
+        if (aot > 0) {
+            System.out.printf("   + AppCDS + AOT:      %,6d ms  (%.1fx)%n", aot, (double) baseline / aot);
+        }
+        System.out.println();
+
+        assertTrue(tuned < baseline, "cli profile should start faster than the eager configuration");
+    }
+
+    private long fastestStartMillis(List<String> jvmOptions, String... overrides) throws Exception {
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            fastest = Math.min(fastest, start(jvmOptions, overrides));
+        }
+        return fastest;
+    }
+
+    private long start(List<String> jvmOptions, String... overrides) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmOptions);
+        command.add("-Xshare:auto");
+        command.add("-Dspring.context.exit=onRefresh");
+        command.add("-cp");
+        command.add(classPath);
+        command.add("com.datingapp.DatingApplication");
+        command.add("--spring.profiles.active=cli");
+        command.add("--spring.datasource.url=jdbc:h2:mem:startup;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE");
+        command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+        command.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        command.addAll(List.of(overrides));
+
+        Path log = Files.createTempFile(workDir, "startup", ".log");
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        assertTrue(process.waitFor(2, TimeUnit.MINUTES), "startup timed out");
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        assertEquals(0, process.exitValue(), () -> "startup failed:\n" + read(log));
+        return elapsed;
+    }
+
+    /**
+     * AppCDS only archives classes loaded from jars and refuses class path
+     * directories, so target/classes and target/test-classes are packed first.
+     */
+    private String jarredClassPath() throws IOException {
+        List<String> entries = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            Path path = Path.of(entry);
+            if (Files.isDirectory(path)) {
+                Path jar = workDir.resolve(path.getFileName() + ".jar");
+                pack(path, jar);
+                entries.add(jar.toString());
+            } else {
+                entries.add(entry);
+            }
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static void pack(Path directory, Path jar) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                out.putNextEntry(new JarEntry(directory.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, out);
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, CliStartupBenchmark.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static String read(Path log) {
+        try {
+            return Files.readString(log);
+        } catch (IOException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.datingapp.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.datingapp.DatingApplication;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.infrastructure.persistence.jpa.SpringDataSwipeRepository;
+import com.datingapp.infrastructure.persistence.jpa.SwipeEntity;
+
+/**
+ * Compares swipe write throughput of the default configuration against the
+ * perf profile, both on an in-memory H2 database in PostgreSQL mode.
+ *
+ * Run with: mvn test -Pbenchmarks -Dtest=WriteBatchingBenchmark
+ */
+@Tag("benchmark")
+class WriteBatchingBenchmark {
+
+    private static final int SWIPES_PER_TRANSACTION = 2_000;
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Test
+    void perfProfile_shouldWriteFasterThanDefaults() {
+        double defaults = measureSwipesPerSecond("defaults");
+        double perf = measureSwipesPerSecond("perf", "perf");
+
+        System.out.printf("%nWrite throughput (%d swipes/tx, H2):%n", SWIPES_PER_TRANSACTION);
+        System.out.printf("   default profile: %,10.0f swipes/s%n", defaults);
+        System.out.printf("   perf profile:    %,10.0f swipes/s  (%.1fx)%n%n", perf, perf / defaults);
+
+        assertTrue(perf > defaults, "perf profile should out-write the default configuration");
+    }
+
+    private double measureSwipesPerSecond(String database, String... profiles) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DatingApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profiles)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop")) {
+
+            SpringDataSwipeRepository swipes = context.getBean(SpringDataSwipeRepository.class);
+            TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                tx.executeWithoutResult(status -> swipes.saveAll(newSwipes()));
+            }
+
+            long started = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                tx.executeWithoutResult(status -> swipes.saveAll(newSwipes()));
+            }
+            long elapsed = System.nanoTime() - started;
+
+            assertEquals((long) (WARMUP_ROUNDS + MEASURED_ROUNDS) * SWIPES_PER_TRANSACTION, swipes.count());
+            return (double) MEASURED_ROUNDS * SWIPES_PER_TRANSACTION / (elapsed / 1e9);
+        }
+    }
+
+    private static List<SwipeEntity> newSwipes() {
+        UUID swiper = UUID.randomUUID();
+        List<SwipeEntity> batch = new ArrayList<>(SWIPES_PER_TRANSACTION);
+        for (int i = 0; i < SWIPES_PER_TRANSACTION; i++) {
+            batch.add(new SwipeEntity(UUID.randomUUID(), swiper, UUID.randomUUID(), SwipeDirection.LIKE, null));
+        }
+        return batch;
+    }
+}
@@ -1,5 +1,6 @@
 package com.datingapp.domain;
 
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -135,4 +136,16 @@ class DomainValueObjectsTest {
         assertEquals("HIKING", Interest.HIKING.name());
         assertTrue(Interest.values().length >= 10);
     }
+
+    @Test
+    void interest_maskShouldRoundTrip() {
+        Set<Interest> interests = Set.of(Interest.HIKING, Interest.GAMING, Interest.ART);
+
+        long mask = Interest.toMask(interests);
+
+        assertEquals(Interest.HIKING.bit() | Interest.GAMING.bit() | Interest.ART.bit(), mask);
+        assertEquals(interests, Interest.fromMask(mask));
+        assertEquals(0L, Interest.toMask(Set.of()));
+        assertTrue(Interest.fromMask(0L).isEmpty());
+    }
 }
@@ -3,6 +3,7 @@ package com.datingapp.domain;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.time.Period;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -305,4 +306,65 @@ class ProfilePreferencesTest {
                     Collections.emptySet(), null, new Location(0, 0), List.of("url"));
         }
     }
+
+    @Nested
+    class PreferenceFilterMatching {
+        private final LocalDate today = LocalDate.of(2024, 3, 1);
+
+        @Test
+        void birthDateWindow_shouldAgreeWithAgeRangeForEveryBirthday() {
+            Profile requester = profile(today.minusYears(30), new Preferences(null, AgeRange.of(25, 35), null));
+            PreferenceFilter filter = PreferenceFilter.forRequester(requester, today);
+
+            // Covers leap-day birthdays and both edges of the range
+            for (LocalDate born = today.minusYears(40); born.isBefore(today.minusYears(20)); born = born.plusDays(1)) {
+                int age = Period.between(born, today).getYears();
+                assertEquals(age >= 25 && age <= 35, filter.accepts(profile(born, null), 0),
+                        "born " + born + ", aged " + age);
+            }
+        }
+
+        @Test
+        void shouldReject_whenRequesterIsOutsideCandidatesAgeRange() {
+            Profile requester = profile(today.minusYears(45), null);
+            PreferenceFilter filter = PreferenceFilter.forRequester(requester, today);
+
+            assertFalse(filter.accepts(profile(today.minusYears(30), new Preferences(null, AgeRange.of(25, 40), null)), 0));
+            assertTrue(filter.accepts(profile(today.minusYears(30), new Preferences(null, AgeRange.of(40, 50), null)), 0));
+        }
+
+        @Test
+        void shouldReject_whenRequesterIsBeyondCandidatesMaxDistance() {
+            PreferenceFilter filter = PreferenceFilter.forRequester(profile(today.minusYears(30), null), today);
+            Profile candidate = profile(today.minusYears(30), new Preferences(null, null, Distance.ofKilometers(10)));
+
+            assertTrue(filter.accepts(candidate, 10));
+            assertFalse(filter.accepts(candidate, 10.5));
+        }
+
+        @Test
+        void shouldAcceptMissingBirthDate_onlyWithoutRequesterAgeRange() {
+            Profile noBirthDate = profile(null, null);
+
+            assertTrue(PreferenceFilter.forRequester(profile(today.minusYears(30), null), today)
+                    .accepts(noBirthDate, 0));
+            assertFalse(PreferenceFilter.forRequester(
+                    profile(today.minusYears(30), new Preferences(null, AgeRange.of(18, 99), null)), today)
+                    .accepts(noBirthDate, 0));
+        }
+
+        @Test
+        void shouldSkipCandidatesAgeRange_whenRequesterAgeIsUnknown() {
+            PreferenceFilter filter = PreferenceFilter.forRequester(profile(null, null), today);
+
+            assertEquals(PreferenceFilter.UNKNOWN_AGE, filter.requesterAge());
+            assertTrue(filter.accepts(profile(today.minusYears(30), new Preferences(null, AgeRange.of(25, 40), null)), 0));
+        }
+
+        private Profile profile(LocalDate birthDate, Preferences preferences) {
+            return new Profile(
+                    UserId.generate(), "Name", "Bio", birthDate,
+                    Collections.emptySet(), preferences, new Location(0, 0), List.of("url"));
+        }
+    }
 }
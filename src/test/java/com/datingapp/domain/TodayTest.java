@@ -0,0 +1,76 @@
+package com.datingapp.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class TodayTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+    @Test
+    void date_shouldRollOverAtLocalMidnight() {
+        MutableClock clock = new MutableClock(ZonedDateTime.of(2024, 2, 28, 23, 59, 59, 0, ZONE).toInstant());
+        Today today = new Today(clock);
+        assertEquals(LocalDate.of(2024, 2, 28), today.date());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(LocalDate.of(2024, 2, 29), today.date());
+
+        clock.advance(Duration.ofHours(23));
+        assertEquals(LocalDate.of(2024, 2, 29), today.date());
+    }
+
+    @Test
+    void ageOn_shouldAgreeWithPeriodIncludingLeapDays() {
+        LocalDate[] births = { LocalDate.of(2000, 2, 29), LocalDate.of(1990, 12, 31), LocalDate.of(1985, 1, 1) };
+        for (LocalDate birth : births) {
+            for (LocalDate on = LocalDate.of(2023, 1, 1); on.isBefore(LocalDate.of(2025, 1, 1)); on = on.plusDays(1)) {
+                assertEquals(Period.between(birth, on).getYears(), Today.ageOn(birth, on), birth + " on " + on);
+            }
+        }
+    }
+
+    @Test
+    void ageOf_shouldUseCachedDate() {
+        Today today = new Today(Clock.fixed(Instant.parse("2024-06-15T12:00:00Z"), ZoneId.of("UTC")));
+
+        assertEquals(29, today.ageOf(LocalDate.of(1994, 6, 16)));
+        assertEquals(30, today.ageOf(LocalDate.of(1994, 6, 15)));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
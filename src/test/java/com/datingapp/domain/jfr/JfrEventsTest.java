@@ -0,0 +1,124 @@
+package com.datingapp.domain.jfr;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.StaticApplicationContext;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.matching.DistanceStrategy;
+import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.infrastructure.events.SpringEventPublisher;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryUserRepository userRepo;
+    private MatchingService matchingService;
+
+    @BeforeEach
+    void setUp() {
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.refresh();
+        userRepo = new InMemoryUserRepository();
+        matchingService = new MatchingService(
+                new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100)))),
+                userRepo, new InMemorySwipeRepository(), new InMemoryMatchRepository(),
+                new SpringEventPublisher(context));
+    }
+
+    @Test
+    void matchingOperations_shouldEmitEventsWhileRecording() throws Exception {
+        User requester = createTestUser("Requester", 40.7128, -74.0060);
+        User near = createTestUser("Near", 40.7306, -73.9352);
+        userRepo.save(requester);
+        userRepo.save(near);
+
+        List<RecordedEvent> events = record(() -> {
+            matchingService.findProspects(requester, Distance.ofKilometers(50), 10, Collections.emptySet());
+            matchingService.processSwipe(requester.getId(), near.getId(), SwipeDirection.LIKE);
+            matchingService.processSwipe(near.getId(), requester.getId(), SwipeDirection.LIKE);
+        });
+
+        RecordedEvent discovery = single(events, "com.datingapp.Discovery");
+        assertEquals(50.0, discovery.getDouble("radiusKm"));
+        assertEquals(2, discovery.getInt("candidatesFetched"));
+        assertEquals(0, discovery.getInt("excluded"));
+        assertEquals(1, discovery.getInt("scored"));
+        assertEquals(1, discovery.getInt("returned"));
+
+        List<RecordedEvent> swipes = named(events, "com.datingapp.Swipe");
+        assertEquals(2, swipes.size());
+        assertFalse(swipes.get(0).getBoolean("reciprocalFound"));
+        assertTrue(swipes.get(1).getBoolean("reciprocalFound"));
+        assertTrue(swipes.get(1).getBoolean("matchCreated"));
+        assertEquals("LIKE", swipes.get(1).getString("direction"));
+
+        assertEquals("MatchCreatedEvent", single(events, "com.datingapp.EventPublish").getString("eventType"));
+    }
+
+    @Test
+    void matchingOperations_shouldNotFailWithoutRecording() {
+        UserId a = UserId.generate();
+        UserId b = UserId.generate();
+
+        assertDoesNotThrow(() -> matchingService.processSwipe(a, b, SwipeDirection.LIKE));
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(DiscoveryEvent.class);
+            recording.enable(SwipeEvent.class);
+            recording.enable(PublishEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((e1, e2) -> e1.getStartTime().compareTo(e2.getStartTime()))
+                .toList();
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = named(events, name);
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+
+    private User createTestUser(String name, double lat, double lon) {
+        UserId id = UserId.generate();
+        Profile p = new Profile(id, name, "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                null, new Location(lat, lon), List.of("url"));
+        return new User(id, name.toLowerCase(), p);
+    }
+}
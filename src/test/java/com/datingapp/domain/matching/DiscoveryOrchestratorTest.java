@@ -0,0 +1,311 @@
+package com.datingapp.domain.matching;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Feed;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Match;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.Swipe;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.SwipeRepository;
+import com.datingapp.infrastructure.cache.SingleFlight;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DiscoveryOrchestratorTest {
+
+    private static final Distance RADIUS = Distance.ofKilometers(50);
+
+    private InMemoryUserRepository userRepo;
+    private InMemorySwipeRepository swipeRepo;
+    private InMemoryMatchRepository matchRepo;
+    private ProspectQueues prospectQueues;
+    private DiscoveryOrchestrator orchestrator;
+    private User requester;
+
+    @BeforeEach
+    void setUp() {
+        userRepo = new InMemoryUserRepository();
+        swipeRepo = new InMemorySwipeRepository();
+        matchRepo = new InMemoryMatchRepository();
+        MatchingService matchingService = new MatchingService(
+                new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100)))),
+                userRepo, swipeRepo, matchRepo, event -> {
+                });
+        // Refills run inline on the calling read
+        prospectQueues = new ProspectQueues(matchingService, userRepo, swipeRepo, 10, 2, Distance.ofKilometers(1),
+                100, Runnable::run);
+        requester = save("requester", 40.7, -74.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (orchestrator != null) {
+            orchestrator.close();
+        }
+    }
+
+    @Test
+    void buildFeed_shouldExcludeSwipedAndMatchedUsers() {
+        User swiped = save("swiped", 40.71, -74.0);
+        User matched = save("matched", 40.72, -74.0);
+        User fresh = save("fresh", 40.73, -74.0);
+        User liker = save("liker", 40.74, -74.0);
+        swipeRepo.saveIfNotExists(Swipe.create(requester.getId(), swiped.getId(), SwipeDirection.DISLIKE));
+        swipeRepo.saveIfNotExists(Swipe.create(liker.getId(), requester.getId(), SwipeDirection.LIKE));
+        matchRepo.saveIfNotExists(Match.create(matched.getId(), requester.getId()));
+        orchestrator = new DiscoveryOrchestrator(prospectQueues, swipeRepo, matchRepo, Duration.ofSeconds(5));
+
+        Feed feed = orchestrator.buildFeed(requester, RADIUS, 10);
+
+        assertEquals(List.of(fresh.getId(), liker.getId()), ids(feed));
+        assertEquals(Set.of(liker.getId()), feed.pendingLikers());
+        assertEquals(1, feed.matches().size());
+    }
+
+    @Test
+    void buildFeed_shouldServeNextPageOnEachCall() {
+        User first = save("first", 40.71, -74.0);
+        User second = save("second", 40.72, -74.0);
+        orchestrator = new DiscoveryOrchestrator(prospectQueues, swipeRepo, matchRepo, Duration.ofSeconds(5));
+
+        assertEquals(List.of(first.getId()), ids(orchestrator.buildFeed(requester, RADIUS, 1)));
+        assertEquals(List.of(second.getId()), ids(orchestrator.buildFeed(requester, RADIUS, 1)));
+        assertEquals(List.of(), ids(orchestrator.buildFeed(requester, RADIUS, 1)));
+    }
+
+    @Test
+    void buildFeed_shouldRunReadsConcurrently() {
+        // Each repository read waits for the other two; run one after another they would time out
+        CountDownLatch allStarted = new CountDownLatch(3);
+        SwipeRepository rendezvous = new DelegatingSwipeRepository(swipeRepo) {
+            @Override
+            public Set<UserId> findSwipedUserIds(UserId swiper) {
+                arriveAndAwait(allStarted);
+                return super.findSwipedUserIds(swiper);
+            }
+
+            @Override
+            public Set<UserId> findPendingLikersFor(UserId userId) {
+                arriveAndAwait(allStarted);
+                return super.findPendingLikersFor(userId);
+            }
+        };
+        orchestrator = new DiscoveryOrchestrator(prospectQueues, rendezvous,
+                new InMemoryMatchRepository() {
+                    @Override
+                    public List<Match> findByUser(UserId userId) {
+                        arriveAndAwait(allStarted);
+                        return super.findByUser(userId);
+                    }
+                }, Duration.ofSeconds(5));
+
+        assertDoesNotThrow(() -> orchestrator.buildFeed(requester, RADIUS, 10));
+    }
+
+    @Test
+    void buildFeed_shouldCancelSiblingsWhenOneReadFails() throws InterruptedException {
+        CountDownLatch slowReadStarted = new CountDownLatch(1);
+        CountDownLatch slowReadInterrupted = new CountDownLatch(1);
+        SwipeRepository failing = new DelegatingSwipeRepository(swipeRepo) {
+            @Override
+            public Set<UserId> findSwipedUserIds(UserId swiper) {
+                // Fail only once the sibling is running, or cancelling it would skip it rather than interrupt it
+                awaitQuietly(slowReadStarted);
+                throw new IllegalStateException("swipe store down");
+            }
+
+            @Override
+            public Set<UserId> findPendingLikersFor(UserId userId) {
+                slowReadStarted.countDown();
+                return blockUntilInterrupted(slowReadInterrupted);
+            }
+        };
+        orchestrator = new DiscoveryOrchestrator(prospectQueues, failing, matchRepo, Duration.ofSeconds(30));
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> orchestrator.buildFeed(requester, RADIUS, 10));
+
+        assertEquals("swipe store down", failure.getMessage());
+        assertTrue(slowReadInterrupted.await(5, TimeUnit.SECONDS), "sibling read should be cancelled");
+    }
+
+    @Test
+    void buildFeed_shouldKeepPageQueuedWhenAReadFails() {
+        User first = save("first", 40.71, -74.0);
+        User second = save("second", 40.72, -74.0);
+        boolean[] likersDown = { true };
+        SwipeRepository flaky = new DelegatingSwipeRepository(swipeRepo) {
+            @Override
+            public Set<UserId> findPendingLikersFor(UserId userId) {
+                if (likersDown[0]) {
+                    throw new IllegalStateException("likers store down");
+                }
+                return super.findPendingLikersFor(userId);
+            }
+        };
+        orchestrator = new DiscoveryOrchestrator(prospectQueues, flaky, matchRepo, Duration.ofSeconds(5));
+
+        assertThrows(IllegalStateException.class, () -> orchestrator.buildFeed(requester, RADIUS, 2));
+        likersDown[0] = false;
+
+        assertEquals(List.of(first.getId(), second.getId()), ids(orchestrator.buildFeed(requester, RADIUS, 2)));
+    }
+
+    @Test
+    void buildFeed_shouldShareOneFeedBetweenIdenticalConcurrentRequests() throws Exception {
+        User first = save("first", 40.71, -74.0);
+        User second = save("second", 40.72, -74.0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch followerJoined = new CountDownLatch(1);
+        AtomicInteger likerReads = new AtomicInteger();
+        SwipeRepository gated = new DelegatingSwipeRepository(swipeRepo) {
+            @Override
+            public Set<UserId> findPendingLikersFor(UserId userId) {
+                likerReads.incrementAndGet();
+                try {
+                    followerJoined.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.findPendingLikersFor(userId);
+            }
+        };
+        orchestrator = new DiscoveryOrchestrator(prospectQueues, gated, matchRepo, Duration.ofSeconds(10),
+                new SingleFlight<>(10, registry, "datingapp.discovery.coalescing"));
+
+        List<Feed> feeds;
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Feed> one = callers.submit(() -> orchestrator.buildFeed(requester, RADIUS, 1));
+            Future<Feed> other = callers.submit(() -> orchestrator.buildFeed(requester, RADIUS, 1));
+            awaitCoalesced(registry);
+            followerJoined.countDown();
+            feeds = List.of(one.get(5, TimeUnit.SECONDS), other.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of(first.getId()), ids(feeds.get(0)));
+        assertEquals(ids(feeds.get(0)), ids(feeds.get(1)));
+        assertEquals(1, likerReads.get());
+        assertEquals(List.of(second.getId()), ids(orchestrator.buildFeed(requester, RADIUS, 1)));
+    }
+
+    @Test
+    void buildFeed_shouldGiveUpAtDeadline() throws InterruptedException {
+        CountDownLatch slowReadInterrupted = new CountDownLatch(1);
+        SwipeRepository hanging = new DelegatingSwipeRepository(swipeRepo) {
+            @Override
+            public Set<UserId> findPendingLikersFor(UserId userId) {
+                return blockUntilInterrupted(slowReadInterrupted);
+            }
+        };
+        orchestrator = new DiscoveryOrchestrator(prospectQueues, hanging, matchRepo, Duration.ofMillis(100));
+
+        long started = System.nanoTime();
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> orchestrator.buildFeed(requester, RADIUS, 10));
+
+        assertTrue(failure.getMessage().contains("deadline"));
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+        assertTrue(slowReadInterrupted.await(5, TimeUnit.SECONDS), "timed-out read should be cancelled");
+    }
+
+    private User save(String username, double lat, double lon) {
+        UserId id = UserId.generate();
+        User user = new User(id, username, new Profile(id, username, "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                null, new Location(lat, lon), List.of("photo.jpg")));
+        userRepo.save(user);
+        return user;
+    }
+
+    private static List<UserId> ids(Feed feed) {
+        return feed.prospects().stream().map(Prospect::userId).toList();
+    }
+
+    private static void awaitCoalesced(SimpleMeterRegistry registry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("datingapp.discovery.coalescing").tag("role", "coalesced").counter().count() < 1) {
+            assertTrue(System.nanoTime() < deadline, "second request never joined the first");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void arriveAndAwait(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "reads did not overlap");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "sibling read never started");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> T blockUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return null;
+    }
+
+    private static class DelegatingSwipeRepository implements SwipeRepository {
+        private final SwipeRepository delegate;
+
+        DelegatingSwipeRepository(SwipeRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Swipe saveIfNotExists(Swipe swipe) {
+            return delegate.saveIfNotExists(swipe);
+        }
+
+        @Override
+        public Optional<Swipe> findByPair(UserId swiper, UserId target) {
+            return delegate.findByPair(swiper, target);
+        }
+
+        @Override
+        public Set<UserId> findSwipedUserIds(UserId swiper) {
+            return delegate.findSwipedUserIds(swiper);
+        }
+
+        @Override
+        public Set<UserId> findPendingLikersFor(UserId userId) {
+            return delegate.findPendingLikersFor(userId);
+        }
+    }
+}
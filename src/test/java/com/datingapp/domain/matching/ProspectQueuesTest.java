@@ -0,0 +1,289 @@
+package com.datingapp.domain.matching;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+class ProspectQueuesTest {
+
+    private static final Distance RADIUS = Distance.ofKilometers(50);
+    private static final Distance MOVE_TOLERANCE = Distance.ofKilometers(1);
+
+    private InMemoryUserRepository userRepo;
+    private InMemorySwipeRepository swipeRepo;
+    private AtomicInteger radiusQueries;
+    private List<Runnable> pendingRefills;
+    private ProspectQueues queues;
+    private User requester;
+
+    @BeforeEach
+    void setUp() {
+        radiusQueries = new AtomicInteger();
+        userRepo = new InMemoryUserRepository() {
+            @Override
+            public List<User> findDiscoverableInRadius(Location center, Distance radius, int limit,
+                    PreferenceFilter filter, Set<UserId> excludedIds) {
+                radiusQueries.incrementAndGet();
+                return super.findDiscoverableInRadius(center, radius, limit, filter, excludedIds);
+            }
+        };
+        swipeRepo = new InMemorySwipeRepository();
+        MatchingService matchingService = new MatchingService(
+                new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100)))),
+                userRepo, swipeRepo, new InMemoryMatchRepository(), event -> {
+                });
+        pendingRefills = new ArrayList<>();
+        // Refills are queued and run by the test, so their timing is deterministic
+        queues = new ProspectQueues(matchingService, userRepo, swipeRepo, 3, 1, MOVE_TOLERANCE, 100,
+                pendingRefills::add);
+        requester = save("requester", 40.7, -74.0);
+    }
+
+    @Test
+    void next_shouldServeClosestFirstAndQueryOncePerBatch() {
+        User near = save("near", 40.71, -74.0);
+        User middle = save("middle", 40.72, -74.0);
+        save("far", 40.73, -74.0);
+
+        assertEquals(near.getId(), nextId());
+        assertEquals(middle.getId(), nextId());
+
+        assertEquals(1, radiusQueries.get());
+    }
+
+    @Test
+    void next_shouldRefillInBackgroundAtLowWaterMark() {
+        List<UserId> candidates = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            candidates.add(save("c" + i, 40.7 + i * 0.01, -74.0).getId());
+        }
+
+        List<UserId> served = new ArrayList<>();
+        served.add(nextId());
+        assertTrue(pendingRefills.isEmpty());
+        served.add(nextId());
+        assertEquals(1, pendingRefills.size(), "one card left should schedule a refill");
+        runRefills();
+        served.add(nextId());
+        served.add(nextId());
+        runRefills();
+        served.add(nextId());
+        runRefills();
+
+        assertEquals(candidates, served);
+        assertTrue(queues.next(requester, RADIUS).isEmpty());
+    }
+
+    @Test
+    void next_shouldReachPastEarlierBatchesUntilRadiusIsDrained() {
+        for (int i = 0; i < 30; i++) {
+            save("c" + i, 40.7 + (i + 1) * 0.001, -74.0);
+        }
+
+        Set<UserId> served = new HashSet<>();
+        for (var next = queues.next(requester, RADIUS); next.isPresent(); next = queues.next(requester, RADIUS)) {
+            assertTrue(served.add(next.get().userId()), "served twice: " + next.get().userId());
+            queues.swipe(requester.getId(), next.get().userId(), SwipeDirection.DISLIKE);
+            runRefills();
+        }
+
+        assertEquals(30, served.size());
+    }
+
+    @Test
+    void next_shouldServeFeedPageAndTopUpWhenQueueIsShort() {
+        List<UserId> candidates = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            candidates.add(save("c" + i, 40.7 + i * 0.01, -74.0).getId());
+        }
+
+        List<UserId> page = queues.next(requester, RADIUS, 4).stream().map(Prospect::userId).toList();
+
+        assertEquals(candidates.subList(0, 4), page);
+    }
+
+    @Test
+    void refill_shouldApplyRequesterPreferencesSavedSinceQueueWasBuilt() {
+        save("first", 40.71, -74.0);
+        save("second", 40.72, -74.0);
+        save("third", 40.73, -74.0);
+        User older = save("older", 40.74, -74.0, 40);
+        nextId();
+        nextId();
+
+        userRepo.save(new User(requester.getId(), "requester", new Profile(requester.getId(), "Name", "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                new Preferences(Set.of(), AgeRange.of(18, 30), null), new Location(40.7, -74.0),
+                List.of("photo.jpg"))));
+        runRefills();
+
+        assertNotEquals(older.getId(), nextId());
+        runRefills();
+        assertTrue(queues.next(requester, RADIUS).isEmpty());
+    }
+
+    @Test
+    void swipe_shouldDropTargetFromQueueAndLaterRefills() {
+        User first = save("first", 40.71, -74.0);
+        User second = save("second", 40.72, -74.0);
+        User third = save("third", 40.73, -74.0);
+
+        assertEquals(first.getId(), nextId());
+        queues.swipe(requester.getId(), first.getId(), SwipeDirection.LIKE);
+        queues.swipe(requester.getId(), second.getId(), SwipeDirection.DISLIKE);
+
+        assertEquals(third.getId(), nextId());
+        runRefills();
+        assertTrue(queues.next(requester, RADIUS).isEmpty());
+    }
+
+    @Test
+    void candidateChanged_shouldRemovePausedCandidateFromQueues() {
+        User staying = save("staying", 40.71, -74.0);
+        User pausing = save("pausing", 40.72, -74.0);
+        User filler = save("filler", 40.73, -74.0);
+        assertEquals(staying.getId(), nextId());
+
+        pausing.pause();
+        userRepo.save(pausing);
+        queues.candidateChanged(pausing.getId());
+
+        assertEquals(filler.getId(), nextId());
+        runRefills();
+        assertTrue(queues.next(requester, RADIUS).isEmpty());
+    }
+
+    @Test
+    void candidateChanged_shouldReachEveryQueueHoldingTheCandidate() {
+        User other = save("other", 40.7, -74.01);
+        User shared = save("shared", 40.71, -74.0);
+        queues.peek(requester, RADIUS, 1);
+        queues.peek(other, RADIUS, 1);
+
+        queues.candidateChanged(shared.getId());
+
+        assertFalse(queues.peek(requester, RADIUS, 3).stream().anyMatch(p -> p.userId().equals(shared.getId())));
+        assertFalse(queues.peek(other, RADIUS, 3).stream().anyMatch(p -> p.userId().equals(shared.getId())));
+    }
+
+    @Test
+    void candidateIndex_shouldForgetServedProspectsAndReplacedQueues() {
+        save("near", 40.71, -74.0);
+        save("middle", 40.72, -74.0);
+        save("london", 51.51, -0.1);
+        queues.peek(requester, RADIUS, 1);
+        assertEquals(2, queues.indexedCandidates());
+
+        queues.next(requester, RADIUS, 1);
+        assertEquals(1, queues.indexedCandidates());
+
+        User moved = new User(requester.getId(), "requester", profile(requester.getId(), 51.5, -0.1));
+        queues.peek(moved, RADIUS, 1);
+        // Only london: the New York queue left the index when it was replaced
+        assertEquals(1, queues.indexedCandidates());
+    }
+
+    @Test
+    void next_shouldFillFromSuppliedProspectSource() {
+        User near = save("near", 40.71, -74.0);
+        MatchingService matchingService = new MatchingService(
+                new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100)))),
+                userRepo, swipeRepo, new InMemoryMatchRepository(), event -> {
+                });
+        List<Integer> requestedLimits = new ArrayList<>();
+        ProspectSource source = (user, radius, limit, excludedIds) -> {
+            requestedLimits.add(limit);
+            return matchingService.findProspects(user, radius, limit, excludedIds);
+        };
+        ProspectQueues sourced = new ProspectQueues(matchingService, source, userRepo, swipeRepo, 3, 1,
+                MOVE_TOLERANCE, 100, pendingRefills::add);
+
+        assertEquals(near.getId(), sourced.next(requester, RADIUS).orElseThrow().userId());
+        assertEquals(List.of(3), requestedLimits);
+    }
+
+    @Test
+    void next_shouldRebuildQueueWhenRequesterMoves() {
+        save("newyork", 40.71, -74.0);
+        User london = save("london", 51.51, -0.1);
+        nextId();
+
+        User moved = new User(requester.getId(), "requester", profile(requester.getId(), 51.5, -0.1));
+        userRepo.save(moved);
+
+        assertEquals(london.getId(), queues.next(moved, RADIUS).orElseThrow().userId());
+        assertEquals(2, radiusQueries.get());
+    }
+
+    @Test
+    void next_shouldKeepQueueWhenRequesterMovesWithinTolerance() {
+        save("near", 40.71, -74.0);
+        User middle = save("middle", 40.72, -74.0);
+        nextId();
+
+        User jittered = new User(requester.getId(), "requester", profile(requester.getId(), 40.7003, -74.0002));
+
+        assertEquals(middle.getId(), queues.next(jittered, RADIUS).orElseThrow().userId());
+        assertEquals(1, radiusQueries.get());
+    }
+
+    @Test
+    void constructor_shouldRejectLowWaterMarkAtOrAboveBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProspectQueues(null, userRepo, swipeRepo, 3, 3, MOVE_TOLERANCE, 100));
+    }
+
+    private UserId nextId() {
+        return queues.next(requester, RADIUS).orElseThrow().userId();
+    }
+
+    private void runRefills() {
+        List<Runnable> due = new ArrayList<>(pendingRefills);
+        pendingRefills.clear();
+        due.forEach(Runnable::run);
+    }
+
+    private User save(String username, double lat, double lon) {
+        return save(username, lat, lon, 25);
+    }
+
+    private User save(String username, double lat, double lon, int age) {
+        UserId id = UserId.generate();
+        User user = new User(id, username, profile(id, lat, lon, age));
+        userRepo.save(user);
+        return user;
+    }
+
+    private static Profile profile(UserId id, double lat, double lon) {
+        return profile(id, lat, lon, 25);
+    }
+
+    private static Profile profile(UserId id, double lat, double lon, int age) {
+        return new Profile(id, "Name", "Bio",
+                LocalDate.now().minusYears(age), Collections.emptySet(),
+                null, new Location(lat, lon), List.of("photo.jpg"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.datingapp.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.UserState;
+import com.datingapp.domain.repository.UserRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+class CachingUserRepositoryTest {
+
+    private UserRepository delegate;
+    private CachingUserRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new InMemoryUserRepository());
+        repo = new CachingUserRepository(delegate, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void findById_shouldHitDelegateOnlyOnce() {
+        User user = createUser("alice");
+        delegate.save(user);
+
+        repo.findById(user.getId());
+        repo.findById(user.getId());
+        repo.findById(user.getId());
+
+        verify(delegate, times(1)).findById(user.getId());
+        assertEquals(2, repo.stats().hits());
+        assertEquals(1, repo.stats().misses());
+    }
+
+    @Test
+    void findByUsername_shouldServeFromCacheAfterFirstLoad() {
+        User user = createUser("bob");
+        delegate.save(user);
+
+        repo.findByUsername("bob");
+        assertTrue(repo.findByUsername("bob").isPresent());
+
+        verify(delegate, times(1)).findByUsername("bob");
+    }
+
+    @Test
+    void save_shouldInvalidateCachedUser() {
+        User user = createUser("carol");
+        repo.save(user);
+        repo.findById(user.getId());
+
+        User updated = new User(user.getId(), "carol", createProfile(user.getId(), "Carol v2"));
+        repo.save(updated);
+
+        assertEquals("Carol v2", repo.findById(user.getId()).orElseThrow().getProfile().displayName());
+        verify(delegate, times(2)).findById(user.getId());
+    }
+
+    @Test
+    void findById_shouldNotCacheMissingUsers() {
+        UserId id = UserId.generate();
+
+        assertTrue(repo.findById(id).isEmpty());
+        assertTrue(repo.findById(id).isEmpty());
+
+        verify(delegate, times(2)).findById(id);
+    }
+
+    @Test
+    void findById_shouldHandEachCallerItsOwnCopy() {
+        User user = createUser("dave");
+        delegate.save(user);
+
+        User first = repo.findById(user.getId()).orElseThrow();
+        first.pause();
+
+        User second = repo.findById(user.getId()).orElseThrow();
+        assertNotSame(first, second);
+        assertEquals(UserState.ACTIVE, second.getState());
+        assertEquals(user.getCreatedAt(), second.getCreatedAt());
+    }
+
+    @Test
+    void findByUsername_shouldReloadAfterRename() {
+        User user = createUser("erin");
+        delegate.save(user);
+        repo.findByUsername("erin");
+
+        delegate.save(new User(user.getId(), "erin2", createProfile(user.getId(), "Erin")));
+        repo.evict(user);
+
+        assertTrue(repo.findByUsername("erin").isEmpty());
+    }
+
+    @Test
+    void save_insideTransaction_shouldEvictAgainAfterCompletion() {
+        User user = createUser("frank");
+        delegate.save(user);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repo.save(user);
+            // A read before commit caches what the other connections still see
+            repo.findById(user.getId());
+            assertEquals(1, repo.stats().size());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, repo.stats().size());
+    }
+
+    private User createUser(String username) {
+        UserId id = UserId.generate();
+        return new User(id, username, createProfile(id, username));
+    }
+
+    private Profile createProfile(UserId id, String name) {
+        return new Profile(id, name, "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                null, new Location(40.7, -74.0), List.of("photo.jpg"));
+    }
+}
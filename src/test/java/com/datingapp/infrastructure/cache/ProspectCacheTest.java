@@ -0,0 +1,226 @@
+package com.datingapp.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.Prospect;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.matching.DistanceStrategy;
+import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProspectCacheTest {
+
+    private static final Distance RADIUS = Distance.ofKilometers(50);
+
+    private InMemoryUserRepository userRepo;
+    private MatchingService matchingService;
+    private SimpleMeterRegistry registry;
+    private AtomicLong clock;
+    private ProspectCache cache;
+    private User requester;
+
+    @BeforeEach
+    void setUp() {
+        userRepo = new InMemoryUserRepository();
+        matchingService = spy(new MatchingService(
+                new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100)))),
+                userRepo, new InMemorySwipeRepository(), new InMemoryMatchRepository(), event -> {
+                }));
+        registry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        cache = new ProspectCache(matchingService, 100, Duration.ofSeconds(30), 20,
+                Distance.ofKilometers(5), 0.01, registry, clock::get);
+        requester = save("requester", 40.705, -74.005);
+    }
+
+    @Test
+    void findProspects_shouldServeRepeatedRequestFromCache() {
+        save("alice", 40.71, -74.0);
+
+        List<Prospect> first = cache.findProspects(requester, RADIUS, 10, Set.of());
+        List<Prospect> second = cache.findProspects(requester, RADIUS, 10, Set.of());
+
+        assertEquals(first, second);
+        verify(matchingService, times(1)).findProspects(any(), any(), anyInt(), any());
+        assertEquals(0.5, cache.hitRate());
+        assertEquals(1.0, registry.get("datingapp.cache.prospects").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void findProspects_shouldShareEntryWithinCellAndRadiusBucket() {
+        save("alice", 40.71, -74.0);
+        cache.findProspects(requester, RADIUS, 10, Set.of());
+
+        User nudged = new User(requester.getId(), "requester", profile(requester.getId(), 40.706, -74.004));
+        cache.findProspects(nudged, Distance.ofKilometers(49), 10, Set.of());
+        verify(matchingService, times(1)).findProspects(any(), any(), anyInt(), any());
+
+        User moved = new User(requester.getId(), "requester", profile(requester.getId(), 40.72, -74.004));
+        cache.findProspects(moved, RADIUS, 10, Set.of());
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void findProspects_shouldDropProspectsBeyondSmallerRadiusInSameBucket() {
+        User near = save("near", 40.71, -74.0);
+        // About 50.6 km from the requester: inside 52 km, outside 48 km
+        save("edge", 41.16, -74.005);
+        cache.findProspects(requester, Distance.ofKilometers(52), 10, Set.of());
+
+        List<Prospect> result = cache.findProspects(requester, Distance.ofKilometers(48), 10, Set.of());
+
+        assertEquals(List.of(near.getId()), result.stream().map(Prospect::userId).toList());
+        verify(matchingService, times(1)).findProspects(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void findProspects_shouldRecomputeForLargerRadiusInSameBucket() {
+        save("near", 40.71, -74.0);
+        User edge = save("edge", 41.16, -74.005);
+        cache.findProspects(requester, Distance.ofKilometers(48), 10, Set.of());
+
+        List<Prospect> result = cache.findProspects(requester, Distance.ofKilometers(52), 10, Set.of());
+
+        assertTrue(result.stream().anyMatch(prospect -> prospect.userId().equals(edge.getId())));
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void findProspects_shouldRecomputeFullPageCutShortBySmallerRadius() {
+        save("near", 40.71, -74.0);
+        save("edge", 41.16, -74.005);
+        cache.findProspects(requester, Distance.ofKilometers(52), 2, Set.of());
+
+        cache.findProspects(requester, Distance.ofKilometers(48), 2, Set.of());
+
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+        assertEquals(1.0, registry.get("datingapp.cache.prospects").tag("result", "refill").counter().count());
+    }
+
+    @Test
+    void findProspects_shouldFilterNewlySwipedFromShortPageWithoutRecomputing() {
+        User alice = save("alice", 40.71, -74.0);
+        User bob = save("bob", 40.72, -74.0);
+        cache.findProspects(requester, RADIUS, 10, Set.of());
+
+        List<Prospect> result = cache.findProspects(requester, RADIUS, 10, Set.of(alice.getId()));
+
+        assertEquals(List.of(bob.getId()), result.stream().map(Prospect::userId).toList());
+        verify(matchingService, times(1)).findProspects(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void findProspects_shouldRecomputeFullPageThatLostEntries() {
+        User alice = save("alice", 40.71, -74.0);
+        User bob = save("bob", 40.72, -74.0);
+        User carol = save("carol", 40.73, -74.0);
+        cache.findProspects(requester, RADIUS, 2, Set.of());
+
+        List<Prospect> result = cache.findProspects(requester, RADIUS, 2, Set.of(alice.getId()));
+
+        assertEquals(List.of(bob.getId(), carol.getId()), result.stream().map(Prospect::userId).toList());
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+        assertEquals(1.0, registry.get("datingapp.cache.prospects").tag("result", "refill").counter().count());
+    }
+
+    @Test
+    void findProspects_shouldServeShortRefilledPageToLaterSwipes() {
+        User alice = save("alice", 40.71, -74.0);
+        User bob = save("bob", 40.72, -74.0);
+        User carol = save("carol", 40.73, -74.0);
+        cache.findProspects(requester, RADIUS, 3, Set.of());
+        // Refilled page comes back short: bob and carol are all that is left
+        cache.findProspects(requester, RADIUS, 3, Set.of(alice.getId()));
+
+        List<Prospect> result = cache.findProspects(requester, RADIUS, 3, Set.of(alice.getId(), bob.getId()));
+
+        assertEquals(List.of(carol.getId()), result.stream().map(Prospect::userId).toList());
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void findProspects_shouldRecomputeShortPageForCallerExcludingLess() {
+        User alice = save("alice", 40.71, -74.0);
+        User bob = save("bob", 40.72, -74.0);
+        cache.findProspects(requester, RADIUS, 10, Set.of(alice.getId()));
+
+        List<Prospect> result = cache.findProspects(requester, RADIUS, 10, Set.of());
+
+        assertEquals(List.of(alice.getId(), bob.getId()), result.stream().map(Prospect::userId).toList());
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void findProspects_shouldMissAfterPreferencesChange() {
+        save("alice", 40.71, -74.0);
+        cache.findProspects(requester, RADIUS, 10, Set.of());
+
+        Profile narrowed = new Profile(requester.getId(), "Name", "Bio", LocalDate.now().minusYears(25),
+                Collections.emptySet(), new Preferences(Set.of(), AgeRange.of(40, 50), null),
+                new Location(40.705, -74.005), List.of("photo.jpg"));
+        List<Prospect> result = cache.findProspects(new User(requester.getId(), "requester", narrowed), RADIUS, 10,
+                Set.of());
+
+        assertTrue(result.isEmpty());
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void findProspects_shouldRecomputeAfterTtl() {
+        save("alice", 40.71, -74.0);
+        cache.findProspects(requester, RADIUS, 10, Set.of());
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        cache.findProspects(requester, RADIUS, 10, Set.of());
+
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    void findProspects_shouldBypassCacheForLargePages() {
+        save("alice", 40.71, -74.0);
+
+        cache.findProspects(requester, RADIUS, 50, Set.of());
+        cache.findProspects(requester, RADIUS, 50, Set.of());
+
+        verify(matchingService, times(2)).findProspects(any(), any(), anyInt(), any());
+        assertEquals(0, cache.stats().size());
+    }
+
+    private User save(String username, double lat, double lon) {
+        UserId id = UserId.generate();
+        User user = new User(id, username, profile(id, lat, lon));
+        userRepo.save(user);
+        return user;
+    }
+
+    private static Profile profile(UserId id, double lat, double lon) {
+        return new Profile(id, "Name", "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                null, new Location(lat, lon), List.of("photo.jpg"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.datingapp.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SegmentedLruCacheTest {
+
+    private AtomicLong clock;
+    private SegmentedLruCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        cache = new SegmentedLruCache<>(5, Duration.ofSeconds(10), clock::get);
+    }
+
+    @Test
+    void get_shouldLoadOnceAndServeFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("a", k -> "value-" + loads.incrementAndGet());
+        String second = cache.get("a", k -> "value-" + loads.incrementAndGet());
+
+        assertEquals("value-1", second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void get_shouldNotCacheNullLoads() {
+        assertNull(cache.get("missing", k -> null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_shouldEvictWhenOverCapacity() {
+        for (int i = 0; i < 8; i++) {
+            cache.put("k" + i, "v" + i);
+        }
+
+        assertEquals(5, cache.size());
+        assertEquals(3, cache.stats().evictions());
+        assertNull(cache.getIfPresent("k0"), "Oldest entry should be evicted first");
+        assertEquals("v7", cache.getIfPresent("k7"));
+    }
+
+    @Test
+    void put_shouldKeepRepeatedlyReadEntriesOverOneHitWonders() {
+        cache.put("hot", "h");
+        cache.getIfPresent("hot"); // promoted to the protected segment
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("cold" + i, "c" + i);
+        }
+
+        assertEquals("h", cache.getIfPresent("hot"));
+    }
+
+    @Test
+    void getIfPresent_shouldExpireEntriesAfterTtl() {
+        cache.put("a", "1");
+
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(1, cache.stats().expirations());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidate_shouldRemoveEntry() {
+        cache.put("a", "1");
+        cache.getIfPresent("a");
+
+        cache.invalidate("a");
+
+        assertNull(cache.getIfPresent("a"));
+    }
+
+    @Test
+    void get_shouldDropLoadWhenKeyInvalidatedWhileLoading() {
+        String loaded = cache.get("a", k -> {
+            // A writer evicts the key while this stale read is in flight
+            cache.invalidate("a");
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertNull(cache.getIfPresent("a"));
+        assertEquals("fresh", cache.get("a", k -> "fresh"));
+        assertEquals("fresh", cache.getIfPresent("a"));
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedLruCache<>(0, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedLruCache<>(1, Duration.ZERO));
+    }
+}
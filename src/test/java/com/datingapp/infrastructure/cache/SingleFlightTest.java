@@ -0,0 +1,140 @@
+package com.datingapp.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry registry;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void run_shouldShareOneComputationBetweenConcurrentCallers() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(10, registry, "test.flight");
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Integer> slow = () -> {
+            computations.incrementAndGet();
+            await(release);
+            return 42;
+        };
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(callers.submit(() -> flight.run("key", slow)));
+        }
+        awaitCount("coalesced", 3);
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertEquals(42, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        assertEquals(1.0, count("leader"));
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void run_shouldPropagateLeaderFailureToWaiters() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(10, registry, "test.flight");
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Integer> leader = callers.submit(() -> flight.run("key", () -> {
+            await(release);
+            throw new IllegalStateException("database down");
+        }));
+        awaitInFlight(flight);
+        Future<Integer> waiter = callers.submit(() -> flight.run("key", () -> 0));
+        awaitCount("coalesced", 1);
+        release.countDown();
+
+        for (Future<Integer> result : List.of(leader, waiter)) {
+            Exception failure = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+        }
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void run_shouldComputeAgainOnceThePreviousCallFinished() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(10, registry, "test.flight");
+        AtomicInteger computations = new AtomicInteger();
+
+        flight.run("key", computations::incrementAndGet);
+        flight.run("key", computations::incrementAndGet);
+
+        assertEquals(2, computations.get());
+        assertEquals(0.0, count("coalesced"));
+    }
+
+    @Test
+    void run_shouldComputeIndependentlyWhenKeyMapIsFull() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>(1, registry, "test.flight");
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> blocker = callers.submit(() -> flight.run("first", () -> {
+            await(release);
+            return 1;
+        }));
+        awaitInFlight(flight);
+
+        assertEquals(2, flight.run("second", () -> 2));
+        assertEquals(1.0, count("overflow"));
+
+        release.countDown();
+        assertEquals(1, blocker.get(5, TimeUnit.SECONDS));
+    }
+
+    private double count(String role) {
+        return registry.get("test.flight").tag("role", role).counter().count();
+    }
+
+    private void awaitCount(String role, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(role) < expected) {
+            assertTrue(System.nanoTime() < deadline, "callers never joined the flight");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitInFlight(SingleFlight<?, ?> flight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.inFlight() == 0) {
+            assertTrue(System.nanoTime() < deadline, "leader never started");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.datingapp.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.event.DomainEvent;
+import com.datingapp.domain.event.UserUpdatedEvent;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+class EventPublishingUserRepositoryTest {
+
+    private List<DomainEvent> published;
+    private EventPublishingUserRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        published = new ArrayList<>();
+        repo = new EventPublishingUserRepository(new InMemoryUserRepository(), published::add);
+    }
+
+    @Test
+    void save_outsideTransaction_shouldPublishImmediately() {
+        User user = createUser("alice");
+
+        repo.save(user);
+
+        assertEquals(List.of(user.getId()), publishedUserIds());
+    }
+
+    @Test
+    void save_insideTransaction_shouldPublishOnlyAfterCommit() {
+        User user = createUser("bob");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repo.save(user);
+            assertTrue(published.isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(List.of(user.getId()), publishedUserIds());
+    }
+
+    @Test
+    void save_insideRolledBackTransaction_shouldNotPublish() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            repo.save(createUser("carol"));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(published.isEmpty());
+    }
+
+    private List<UserId> publishedUserIds() {
+        return published.stream().map(event -> ((UserUpdatedEvent) event).userId()).toList();
+    }
+
+    private User createUser(String username) {
+        UserId id = UserId.generate();
+        return new User(id, username, new Profile(id, username, "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                null, new Location(40.7, -74.0), List.of("photo.jpg")));
+    }
+}
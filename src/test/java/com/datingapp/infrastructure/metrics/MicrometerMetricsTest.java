@@ -0,0 +1,103 @@
+package com.datingapp.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.matching.DistanceStrategy;
+import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MicrometerMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MeteredUserRepository users;
+    private MatchingService matchingService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        users = new MeteredUserRepository(new InMemoryUserRepository(), registry);
+        matchingService = new MatchingService(
+                new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100)))),
+                users,
+                new MeteredSwipeRepository(new InMemorySwipeRepository(), registry),
+                new MeteredMatchRepository(new InMemoryMatchRepository(), registry),
+                event -> {
+                },
+                new MicrometerMatchingMetrics(registry));
+    }
+
+    @Test
+    void findProspects_shouldRecordLatencyAndCandidateCounts() {
+        User requester = createTestUser("Requester", 40.7128, -74.0060);
+        users.save(requester);
+        users.save(createTestUser("Near", 40.7306, -73.9352));
+        users.save(createTestUser("Nearby", 40.7580, -73.9855));
+
+        matchingService.findProspects(requester, Distance.ofKilometers(50), 10, Collections.emptySet());
+
+        assertEquals(1, registry.get("datingapp.matching.discovery").timer().count());
+        // The requester comes back from the radius query and is filtered out
+        assertEquals(3, registry.get("datingapp.matching.candidates").tag("stage", "fetched").summary().totalAmount());
+        assertEquals(2, registry.get("datingapp.matching.candidates").tag("stage", "returned").summary().totalAmount());
+        assertEquals(1, registry.get("datingapp.repository")
+                .tag("repository", "user").tag("method", "findDiscoverableInRadius").timer().count());
+        assertEquals(3, registry.get("datingapp.repository")
+                .tag("repository", "user").tag("method", "save").timer().count());
+    }
+
+    @Test
+    void processSwipe_shouldCountSwipesByDirectionAndMatches() {
+        UserId alice = UserId.generate();
+        UserId bob = UserId.generate();
+        UserId carol = UserId.generate();
+
+        matchingService.processSwipe(alice, bob, SwipeDirection.LIKE);
+        matchingService.processSwipe(alice, carol, SwipeDirection.DISLIKE);
+        matchingService.processSwipe(bob, alice, SwipeDirection.LIKE);
+
+        assertEquals(3, registry.get("datingapp.matching.swipe").timer().count());
+        assertEquals(2, registry.get("datingapp.swipes").tag("direction", "LIKE").counter().count());
+        assertEquals(1, registry.get("datingapp.swipes").tag("direction", "DISLIKE").counter().count());
+        assertEquals(1, registry.get("datingapp.matches.created").counter().count());
+        assertEquals(3, registry.get("datingapp.repository")
+                .tag("repository", "swipe").tag("method", "saveIfNotExists").timer().count());
+    }
+
+    @Test
+    void report_shouldListOnlyRecordedMeters() {
+        matchingService.processSwipe(UserId.generate(), UserId.generate(), SwipeDirection.LIKE);
+
+        List<String> report = new MetricsReporter(registry).report();
+
+        assertTrue(report.stream().anyMatch(line -> line.startsWith("datingapp.matching.swipe ")
+                && line.contains("count=1") && line.contains("p99=")));
+        assertTrue(report.stream().anyMatch(line -> line.startsWith("datingapp.swipes{direction=LIKE}")));
+        assertTrue(report.stream().noneMatch(line -> line.startsWith("datingapp.matching.discovery")));
+    }
+
+    private User createTestUser(String name, double lat, double lon) {
+        UserId id = UserId.generate();
+        Profile p = new Profile(id, name, "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                null, new Location(lat, lon), List.of("url"));
+        return new User(id, name.toLowerCase(), p);
+    }
+}
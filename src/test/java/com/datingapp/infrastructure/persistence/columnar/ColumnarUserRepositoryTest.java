@@ -0,0 +1,137 @@
+package com.datingapp.infrastructure.persistence.columnar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+import com.datingapp.loadgen.PopulationGenerator;
+
+class ColumnarUserRepositoryTest {
+
+    private InMemoryUserRepository heap;
+    private ColumnarUserRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        heap = new InMemoryUserRepository();
+        repo = new ColumnarUserRepository(heap, 4);
+    }
+
+    @Test
+    void findDiscoverableInRadius_shouldMatchHeapScan() {
+        PopulationGenerator population = new PopulationGenerator(3);
+        for (int i = 0; i < 5_000; i++) {
+            repo.save(population.user(i));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Location center = population.user(i * 97).getProfile().location();
+            for (double km : new double[] { 1, 10, 50, 500 }) {
+                assertEquals(ids(heap.findDiscoverableInRadius(center, Distance.ofKilometers(km), 10_000)),
+                        ids(repo.findDiscoverableInRadius(center, Distance.ofKilometers(km), 10_000)),
+                        () -> "radius " + km + " around " + center);
+            }
+        }
+    }
+
+    @Test
+    void findDiscoverableInRadius_withPreferenceFilter_shouldMatchHeapScan() {
+        PopulationGenerator population = new PopulationGenerator(5);
+        for (int i = 0; i < 5_000; i++) {
+            repo.save(population.user(i));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            User requester = population.user(i * 89);
+            Location center = requester.getProfile().location();
+            PreferenceFilter filter = PreferenceFilter.forRequester(requester.getProfile(), LocalDate.now());
+            assertEquals(ids(heap.findDiscoverableInRadius(center, Distance.ofKilometers(100), 10_000, filter)),
+                    ids(repo.findDiscoverableInRadius(center, Distance.ofKilometers(100), 10_000, filter)),
+                    () -> "requester " + requester.getUsername());
+        }
+    }
+
+    @Test
+    void findDiscoverableInRadius_shouldWrapAroundAntimeridian() {
+        User east = save("east", 0.0, 179.95);
+        User west = save("west", 0.0, -179.95);
+
+        List<User> result = repo.findDiscoverableInRadius(new Location(0.0, 180.0), Distance.ofKilometers(10), 10);
+
+        assertEquals(ids(List.of(east, west)), ids(result));
+    }
+
+    @Test
+    void findDiscoverableInRadius_shouldCoverAllLongitudesNearPole() {
+        User across = save("across", 89.95, 0.0);
+
+        List<User> result = repo.findDiscoverableInRadius(new Location(89.95, 180.0), Distance.ofKilometers(20), 10);
+
+        assertEquals(List.of(across.getId()), ids(result));
+    }
+
+    @Test
+    void findDiscoverableInRadius_shouldExcludeUsersWithoutLocationOrDiscoverability() {
+        UserId noLocation = UserId.generate();
+        repo.save(new User(noLocation, "nowhere", new Profile(noLocation, "Nowhere", "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(), null, null, List.of("photo.jpg"))));
+        User paused = save("paused", 40.7, -74.0);
+        paused.pause();
+        repo.save(paused);
+
+        assertTrue(repo.findDiscoverableInRadius(new Location(40.7, -74.0), Distance.ofKilometers(5), 10).isEmpty());
+    }
+
+    @Test
+    void save_shouldMoveExistingRowAndKeepDelegateInSync() {
+        User user = save("mover", 40.7, -74.0);
+        User moved = new User(user.getId(), "mover", profile(user.getId(), 51.5, -0.1));
+        repo.save(moved);
+
+        assertTrue(repo.findDiscoverableInRadius(new Location(40.7, -74.0), Distance.ofKilometers(5), 10).isEmpty());
+        assertEquals(1, repo.findDiscoverableInRadius(new Location(51.5, -0.1), Distance.ofKilometers(5), 10).size());
+        assertEquals(new Location(51.5, -0.1), heap.findById(user.getId()).orElseThrow().getProfile().location());
+    }
+
+    @Test
+    void save_shouldLeaveTableUntouched_whenDelegateRejectsUser() {
+        save("taken", 40.7, -74.0);
+        User duplicate = new User(UserId.generate(), "taken", profile(UserId.generate(), 40.7, -74.0));
+
+        assertThrows(IllegalStateException.class, () -> repo.save(duplicate));
+        assertEquals(1, repo.findDiscoverableInRadius(new Location(40.7, -74.0), Distance.ofKilometers(5), 10).size());
+    }
+
+    private User save(String username, double lat, double lon) {
+        UserId id = UserId.generate();
+        User user = new User(id, username, profile(id, lat, lon));
+        repo.save(user);
+        return user;
+    }
+
+    private static Profile profile(UserId id, double lat, double lon) {
+        return new Profile(id, "Name", "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                null, new Location(lat, lon), List.of("photo.jpg"));
+    }
+
+    private static List<UserId> ids(List<User> users) {
+        return users.stream()
+                .map(User::getId)
+                .sorted(Comparator.comparing(UserId::value))
+                .toList();
+    }
+}
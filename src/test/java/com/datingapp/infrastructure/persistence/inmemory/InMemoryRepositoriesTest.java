@@ -7,6 +7,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -57,6 +61,62 @@ class InMemoryRepositoriesTest {
             assertEquals("Updated", result.get().getProfile().displayName());
         }
 
+        @Test
+        void findByUsername_shouldReturnUser_afterSave() {
+            User user = createActiveUserAt(40.7, -74.0, "Alice");
+            repo.save(user);
+
+            assertEquals(user.getId(), repo.findByUsername("alice").orElseThrow().getId());
+            assertTrue(repo.existsByUsername("alice"));
+            assertTrue(repo.findByUsername("bob").isEmpty());
+            assertFalse(repo.existsByUsername("bob"));
+        }
+
+        @Test
+        void save_shouldRejectUsernameOfAnotherUser() {
+            repo.save(createActiveUserAt(40.7, -74.0, "Alice"));
+            User impostor = createActiveUserAt(51.5, -0.1, "Alice");
+
+            assertThrows(IllegalStateException.class, () -> repo.save(impostor));
+            assertFalse(repo.existsById(impostor.getId()));
+        }
+
+        @Test
+        void save_shouldReleaseOldUsername_whenUserIsRenamed() {
+            UserId id = UserId.generate();
+            repo.save(new User(id, "old_name", createProfileAt(id, 40.7, -74.0, "Renamed")));
+            repo.save(new User(id, "new_name", createProfileAt(id, 40.7, -74.0, "Renamed")));
+
+            assertFalse(repo.existsByUsername("old_name"));
+            assertEquals(id, repo.findByUsername("new_name").orElseThrow().getId());
+        }
+
+        @Test
+        void save_shouldAcceptOnlyOneOfConcurrentRegistrationsWithSameUsername() throws Exception {
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger accepted = new AtomicInteger();
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int i = 0; i < threads; i++) {
+                    executor.submit(() -> {
+                        User user = createActiveUserAt(40.7, -74.0, "Contested");
+                        start.await();
+                        try {
+                            repo.save(user);
+                            accepted.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            // lost the race
+                        }
+                        return null;
+                    });
+                }
+                start.countDown();
+            }
+
+            assertEquals(1, accepted.get());
+            assertTrue(repo.existsByUsername("contested"));
+        }
+
         @Test
         void existsById_shouldReturnFalse_whenNotFound() {
             assertFalse(repo.existsById(UserId.generate()));
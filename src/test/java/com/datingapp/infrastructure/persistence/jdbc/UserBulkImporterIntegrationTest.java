@@ -0,0 +1,90 @@
+package com.datingapp.infrastructure.persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.datingapp.IntegrationTestBase;
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Interest;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserState;
+import com.datingapp.domain.repository.UserRepository;
+
+/**
+ * Integration tests for UserBulkImporter with real PostgreSQL.
+ * Verifies both input formats end up as regular, loadable users.
+ */
+class UserBulkImporterIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private UserBulkImporter importer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void importFrom_csv_shouldInsertAllRowsInChunks() {
+        String csv = """
+                username,displayName,bio,birthDate,latitude,longitude,interests,photoUrls,interestedIn,ageRangeMin,ageRangeMax,maxDistanceKm
+                csv_ann,Ann,"Loves hiking, coffee",1994-03-01,40.71,-74.00,HIKING|MUSIC,a.jpg,F|M,25,35,50
+                csv_ben,Ben,Bio,1990-07-12,40.73,-73.99,,b.jpg,,,,
+                csv_cat,Cat,Bio,1988-11-30,,,ART,,F,,,
+                """;
+        List<ImportProgress> progress = new ArrayList<>();
+
+        ImportProgress result = importer.importFrom(new StringReader(csv), UserImportFormat.CSV, 2, progress::add);
+
+        assertEquals(3, result.rows());
+        assertEquals(List.of(2L, 3L), progress.stream().map(ImportProgress::rows).toList());
+
+        User ann = userRepository.findByUsername("csv_ann").orElseThrow();
+        Profile profile = ann.getProfile();
+        assertEquals("Loves hiking, coffee", profile.bio());
+        assertEquals(Set.of(Interest.HIKING, Interest.MUSIC), profile.interests());
+        assertEquals(Set.of("F", "M"), profile.preferences().interestedIn());
+        assertEquals(AgeRange.of(25, 35), profile.preferences().ageRange());
+        assertEquals(UserState.ACTIVE, ann.getState());
+
+        assertEquals(UserState.PROFILE_INCOMPLETE, userRepository.findByUsername("csv_cat").orElseThrow().getState());
+    }
+
+    @Test
+    void importFrom_jsonLines_shouldInsertUsers() {
+        String jsonl = """
+                {"username":"json_dan","displayName":"Dan","birthDate":"1991-02-03","latitude":51.5,"longitude":-0.12,"interests":["TRAVEL"],"photoUrls":["d.jpg"]}
+                {"username":"json_eve","displayName":"Eve","birthDate":"1993-05-06","latitude":51.6,"longitude":-0.10,"photoUrls":["e.jpg"],"interestedIn":["M"]}
+                """;
+
+        ImportProgress result = importer.importFrom(new StringReader(jsonl), UserImportFormat.JSON_LINES, 100, p -> {
+        });
+
+        assertEquals(2, result.rows());
+        assertEquals(Set.of(Interest.TRAVEL),
+                userRepository.findByUsername("json_dan").orElseThrow().getProfile().interests());
+        assertEquals(Set.of("M"),
+                userRepository.findByUsername("json_eve").orElseThrow().getProfile().preferences().interestedIn());
+    }
+
+    @Test
+    void importFrom_shouldReportLineOfInvalidRecord() {
+        String csv = """
+                username,displayName,latitude,longitude
+                ok_user,Ok,40.0,-74.0
+                bad_user,Bad,95.0,-74.0
+                """;
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> importer.importFrom(new StringReader(csv), UserImportFormat.CSV, 10, p -> {
+                }));
+
+        assertTrue(ex.getMessage().contains("line 3"), ex.getMessage());
+    }
+}
@@ -0,0 +1,157 @@
+package com.datingapp.infrastructure.persistence.jpa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.datingapp.IntegrationTestBase;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.Match;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.Swipe;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.UserState;
+import com.datingapp.domain.repository.MatchRepository;
+import com.datingapp.domain.repository.SwipeRepository;
+import com.datingapp.domain.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Integration tests for the aggregate and streaming queries used by the CLI.
+ * Counts are compared before and after saving, so rows from other tests do not matter.
+ */
+class StatisticsQueriesIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SwipeRepository swipeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SpringDataUserRepository springDataUserRepository;
+
+    @Autowired
+    private SpringDataSwipeRepository springDataSwipeRepository;
+
+    @Autowired
+    private SpringDataMatchRepository springDataMatchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void countByState_shouldGroupUsersByState() {
+        Map<UserState, Long> before = countsByState();
+        // Complete profiles start out ACTIVE
+        userRepository.save(createUser("active"));
+        User paused = createUser("paused");
+        paused.pause();
+        userRepository.save(paused);
+        User banned = createUser("banned");
+        banned.ban("spam");
+        userRepository.save(banned);
+        entityManager.flush();
+
+        Map<UserState, Long> after = countsByState();
+
+        assertEquals(1, after.get(UserState.ACTIVE) - before.getOrDefault(UserState.ACTIVE, 0L));
+        assertEquals(1, after.get(UserState.PAUSED) - before.getOrDefault(UserState.PAUSED, 0L));
+        assertEquals(1, after.get(UserState.BANNED) - before.getOrDefault(UserState.BANNED, 0L));
+    }
+
+    @Test
+    void countByDirection_shouldGroupSwipesByDirection() {
+        Map<SwipeDirection, Long> before = countsByDirection();
+        UserId swiper = UserId.generate();
+        swipeRepository.saveIfNotExists(Swipe.create(swiper, UserId.generate(), SwipeDirection.LIKE));
+        swipeRepository.saveIfNotExists(Swipe.create(swiper, UserId.generate(), SwipeDirection.LIKE));
+        swipeRepository.saveIfNotExists(Swipe.create(swiper, UserId.generate(), SwipeDirection.DISLIKE));
+        entityManager.flush();
+
+        Map<SwipeDirection, Long> after = countsByDirection();
+
+        assertEquals(2, after.get(SwipeDirection.LIKE) - before.getOrDefault(SwipeDirection.LIKE, 0L));
+        assertEquals(1, after.get(SwipeDirection.DISLIKE) - before.getOrDefault(SwipeDirection.DISLIKE, 0L));
+    }
+
+    @Test
+    void countPerDaySince_shouldGroupMatchesByCreationDay() {
+        Instant since = Instant.now().minus(1, ChronoUnit.DAYS);
+        long before = matchesOn(since, today());
+        matchRepository.saveIfNotExists(Match.create(UserId.generate(), UserId.generate()));
+        matchRepository.saveIfNotExists(Match.create(UserId.generate(), UserId.generate()));
+        entityManager.flush();
+
+        assertEquals(2, matchesOn(since, today()) - before);
+    }
+
+    @Test
+    void streamAllByOrderByUsernameAsc_shouldStreamUsersInUsernameOrder() {
+        userRepository.save(createUser("stream_b"));
+        userRepository.save(createUser("stream_a"));
+        entityManager.flush();
+        entityManager.clear();
+
+        try (Stream<UserEntity> users = springDataUserRepository.streamAllByOrderByUsernameAsc()) {
+            List<String> usernames = users.map(UserEntity::getUsername)
+                    .filter(username -> username.startsWith("stream_"))
+                    .toList();
+
+            assertEquals(List.of("stream_a", "stream_b"), usernames);
+        }
+    }
+
+    private Map<UserState, Long> countsByState() {
+        return toMap(springDataUserRepository.countByState(),
+                SpringDataUserRepository.StateCount::getState, SpringDataUserRepository.StateCount::getCount);
+    }
+
+    private Map<SwipeDirection, Long> countsByDirection() {
+        return toMap(springDataSwipeRepository.countByDirection(),
+                SpringDataSwipeRepository.DirectionCount::getDirection,
+                SpringDataSwipeRepository.DirectionCount::getCount);
+    }
+
+    private long matchesOn(Instant since, LocalDate day) {
+        return springDataMatchRepository.countPerDaySince(since).stream()
+                .filter(row -> row.getDay().equals(day))
+                .mapToLong(SpringDataMatchRepository.DailyCount::getCount)
+                .sum();
+    }
+
+    private static <R, K> Map<K, Long> toMap(List<R> rows, Function<R, K> key, ToLongFunction<R> count) {
+        return rows.stream().collect(Collectors.toMap(key, count::applyAsLong));
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneId.systemDefault());
+    }
+
+    private static User createUser(String username) {
+        UserId id = UserId.generate();
+        Profile profile = new Profile(id, username, "Bio",
+                LocalDate.now().minusYears(25), Collections.emptySet(),
+                null, new Location(40.7128, -74.0060), List.of("photo.jpg"));
+        return new User(id, username, profile);
+    }
+}
@@ -0,0 +1,213 @@
+package com.datingapp.infrastructure.persistence.jpa;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import com.datingapp.IntegrationTestBase;
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Interest;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.UserRepository;
+import com.datingapp.infrastructure.persistence.routing.ReadYourWrites;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Integration tests for UserRepository with real PostgreSQL.
+ * Verifies that array and bitmask columns survive a round trip through the database.
+ */
+class UserRepositoryIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private SpringDataUserRepository springDataUserRepository;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void save_shouldRoundTripMultiValuedProfileFields() {
+        UserId id = UserId.generate();
+        Profile profile = new Profile(id, "Carol", "Bio",
+                LocalDate.of(1992, 6, 15),
+                Set.of(Interest.HIKING, Interest.PHOTOGRAPHY),
+                new Preferences(Set.of("F", "M"), AgeRange.of(25, 40), Distance.ofKilometers(30)),
+                new Location(40.7128, -74.0060),
+                List.of("a.jpg", "b.jpg"));
+        userRepository.save(new User(id, "carol", profile));
+        entityManager.flush();
+        entityManager.clear();
+
+        Profile loaded = userRepository.findById(id).orElseThrow().getProfile();
+
+        assertEquals(List.of("a.jpg", "b.jpg"), loaded.photoUrls());
+        assertEquals(Set.of(Interest.HIKING, Interest.PHOTOGRAPHY), loaded.interests());
+        assertEquals(Set.of("F", "M"), loaded.preferences().interestedIn());
+        assertEquals(AgeRange.of(25, 40), loaded.preferences().ageRange());
+    }
+
+    @Test
+    void save_shouldRoundTripEmptyCollections() {
+        UserId id = UserId.generate();
+        Profile profile = new Profile(id, "Dave", "Bio",
+                LocalDate.of(1990, 1, 1), Set.of(),
+                new Preferences(Set.of(), null, null),
+                new Location(40.7128, -74.0060), List.of());
+        userRepository.save(new User(id, "dave", profile));
+        entityManager.flush();
+        entityManager.clear();
+
+        Profile loaded = userRepository.findById(id).orElseThrow().getProfile();
+
+        assertTrue(loaded.photoUrls().isEmpty());
+        assertTrue(loaded.interests().isEmpty());
+        assertTrue(loaded.preferences().interestedIn().isEmpty());
+    }
+
+    @Test
+    void getPasswordHash_shouldServeRepeatedLookupsFromCache() {
+        User user = createUser("erin");
+        jpaUserRepository.save(user, "hash-1");
+        long hitsBefore = jpaUserRepository.credentialCacheStats().hits();
+
+        // Not committed yet, so the first lookup loads the hash
+        assertEquals("hash-1", jpaUserRepository.getPasswordHash(user.getId()));
+        assertEquals("hash-1", jpaUserRepository.getPasswordHash(user.getId()));
+
+        assertEquals(hitsBefore + 1, jpaUserRepository.credentialCacheStats().hits());
+    }
+
+    @Test
+    void save_withNewPassword_shouldNotLeaveHashCachedAfterRollback() {
+        User user = createUser("heidi");
+        jpaUserRepository.save(user, "rolled-back-hash");
+        assertEquals("rolled-back-hash", jpaUserRepository.getPasswordHash(user.getId()));
+
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        assertNull(jpaUserRepository.getPasswordHash(user.getId()));
+    }
+
+    @Test
+    void save_withNewPassword_shouldReplaceCachedHash() {
+        User user = createUser("frank");
+        jpaUserRepository.save(user, "old-hash");
+
+        jpaUserRepository.save(user, "new-hash");
+
+        assertEquals("new-hash", jpaUserRepository.getPasswordHash(user.getId()));
+    }
+
+    @Test
+    void save_withoutPassword_shouldKeepStoredHashWhenCacheIsCold() {
+        User user = createUser("grace");
+        jpaUserRepository.save(user, "stored-hash");
+        entityManager.flush();
+        entityManager.clear();
+
+        JpaUserRepository coldRepository = new JpaUserRepository(
+                springDataUserRepository, readYourWrites, 10, Duration.ofMinutes(1));
+        coldRepository.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals("stored-hash", springDataUserRepository.findPasswordHashById(user.getId().value()).orElseThrow());
+    }
+
+    @Test
+    void findDiscoverableInRadius_withPreferenceFilter_shouldApplyBothSidesInQuery() {
+        LocalDate today = LocalDate.now();
+        Profile requester = new Profile(UserId.generate(), "Req", "Bio", today.minusYears(30), Set.of(),
+                new Preferences(Set.of(), AgeRange.of(25, 35), null), new Location(0, 0), List.of("photo.jpg"));
+        User match = saveCandidate("pf_match", today.minusYears(28), AgeRange.of(25, 35), 50, 0.05);
+        saveCandidate("pf_too_old", today.minusYears(40), null, 50, 0.05);
+        saveCandidate("pf_not_into_req", today.minusYears(28), AgeRange.of(18, 24), 50, 0.05);
+        saveCandidate("pf_stays_local", today.minusYears(28), null, 1, 0.05);
+        User unbounded = saveCandidate("pf_unbounded", today.minusYears(33), null, null, 0.05);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<User> result = userRepository.findDiscoverableInRadius(new Location(0, 0), Distance.ofKilometers(20), 10,
+                PreferenceFilter.forRequester(requester, today));
+
+        assertEquals(Set.of(match.getId(), unbounded.getId()),
+                Set.copyOf(result.stream().map(User::getId).toList()));
+    }
+
+    @Test
+    void findDiscoverableInRadius_withExcludedIds_shouldSkipThemBeforeLimit() {
+        LocalDate today = LocalDate.now();
+        User first = saveCandidate("ex_first", today.minusYears(28), null, null, 10.01);
+        User second = saveCandidate("ex_second", today.minusYears(28), null, null, 10.02);
+        User third = saveCandidate("ex_third", today.minusYears(28), null, null, 10.03);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<User> result = userRepository.findDiscoverableInRadius(new Location(10, 0), Distance.ofKilometers(20), 1,
+                PreferenceFilter.NONE, Set.of(first.getId(), second.getId()));
+
+        assertEquals(List.of(third.getId()), result.stream().map(User::getId).toList());
+    }
+
+    @Test
+    void findDiscoverableInRadius_withMoreExcludedIdsThanDriverBindLimit_shouldStillQuery() {
+        LocalDate today = LocalDate.now();
+        User excluded = saveCandidate("big_excluded", today.minusYears(28), null, null, 10.01);
+        User kept = saveCandidate("big_kept", today.minusYears(28), null, null, 10.02);
+        entityManager.flush();
+        entityManager.clear();
+        Set<UserId> excludedIds = new HashSet<>();
+        excludedIds.add(excluded.getId());
+        while (excludedIds.size() < 40_000) {
+            excludedIds.add(UserId.generate());
+        }
+
+        List<User> result = userRepository.findDiscoverableInRadius(new Location(10, 0), Distance.ofKilometers(20), 5,
+                PreferenceFilter.NONE, excludedIds);
+
+        assertEquals(List.of(kept.getId()), result.stream().map(User::getId).toList());
+    }
+
+    private User saveCandidate(String username, LocalDate birthDate, AgeRange ageRange, Integer maxDistanceKm,
+            double lat) {
+        UserId id = UserId.generate();
+        Profile profile = new Profile(id, username, "Bio", birthDate, Set.of(),
+                new Preferences(Set.of(), ageRange, maxDistanceKm != null ? Distance.ofKilometers(maxDistanceKm) : null),
+                new Location(lat, 0), List.of("photo.jpg"));
+        User user = new User(id, username, profile);
+        userRepository.save(user);
+        return user;
+    }
+
+    private User createUser(String username) {
+        UserId id = UserId.generate();
+        Profile profile = new Profile(id, username, "Bio",
+                LocalDate.of(1990, 1, 1), Set.of(), null,
+                new Location(40.7128, -74.0060), List.of("photo.jpg"));
+        return new User(id, username, profile);
+    }
+}
@@ -0,0 +1,217 @@
+package com.datingapp.infrastructure.persistence.offheap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.datingapp.domain.AgeRange;
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.Interest;
+import com.datingapp.domain.Location;
+import com.datingapp.domain.PreferenceFilter;
+import com.datingapp.domain.Preferences;
+import com.datingapp.domain.Profile;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.UserState;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+import com.datingapp.loadgen.PopulationGenerator;
+
+class OffHeapUserRepositoryTest {
+
+    private OffHeapUserRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        repo = new OffHeapUserRepository(4);
+    }
+
+    @Test
+    void save_shouldRoundTripEveryProfileField() {
+        UserId id = UserId.generate();
+        Profile profile = new Profile(id, "Zoë", "Über café ☕",
+                LocalDate.of(1990, 2, 28),
+                Set.of(Interest.HIKING, Interest.ART),
+                new Preferences(Set.of("F", "M"), AgeRange.of(25, 40), Distance.ofKilometers(30)),
+                new Location(48.8566, 2.3522),
+                List.of("a.jpg", "b.jpg"));
+        repo.save(new User(id, "zoe", profile));
+
+        User loaded = repo.findById(id).orElseThrow();
+
+        assertEquals("zoe", loaded.getUsername());
+        assertEquals(profile, loaded.getProfile());
+        assertEquals(UserState.ACTIVE, loaded.getState());
+    }
+
+    @Test
+    void save_shouldRoundTripMissingOptionalFields() {
+        UserId id = UserId.generate();
+        repo.save(new User(id, "bare", new Profile(id, null, null, null, null, null, null, null)));
+        UserId noProfile = UserId.generate();
+        repo.save(new User(noProfile, "ghost", null));
+
+        User bare = repo.findById(id).orElseThrow();
+        assertEquals(new Profile(id, null, null, null, null, null, null, null), bare.getProfile());
+        assertEquals(UserState.PROFILE_INCOMPLETE, bare.getState());
+        assertNull(repo.findById(noProfile).orElseThrow().getProfile());
+    }
+
+    @Test
+    void save_shouldRestorePausedAndBannedStates() {
+        User paused = user("paused", 40.7, -74.0);
+        paused.pause();
+        User banned = user("banned", 40.7, -74.0);
+        banned.ban("spam");
+        repo.save(paused);
+        repo.save(banned);
+
+        assertEquals(UserState.PAUSED, repo.findById(paused.getId()).orElseThrow().getState());
+        assertEquals(UserState.BANNED, repo.findById(banned.getId()).orElseThrow().getState());
+        assertTrue(repo.findDiscoverableInRadius(new Location(40.7, -74.0), Distance.ofKilometers(1), 10).isEmpty());
+    }
+
+    @Test
+    void save_shouldRestoreStoredStateAndTimestamps() {
+        UserId id = UserId.generate();
+        User activated = new User(id, "early", new Profile(id, "Early", null, null, null, null, null, null));
+        activated.activate();
+        repo.save(activated);
+
+        User loaded = repo.findById(id).orElseThrow();
+
+        assertEquals(UserState.ACTIVE, loaded.getState());
+        assertEquals(activated.getCreatedAt().toEpochMilli(), loaded.getCreatedAt().toEpochMilli());
+        assertEquals(activated.getUpdatedAt().toEpochMilli(), loaded.getUpdatedAt().toEpochMilli());
+    }
+
+    @Test
+    void save_shouldKeepTextBlobWhenTextUnchanged() {
+        User user = user("steady", 40.7, -74.0);
+        repo.save(user);
+        long bytes = repo.offHeapBytes();
+
+        user.pause();
+        repo.save(user);
+        repo.save(user);
+
+        assertEquals(bytes, repo.offHeapBytes());
+        assertEquals(UserState.PAUSED, repo.findById(user.getId()).orElseThrow().getState());
+    }
+
+    @Test
+    void save_shouldCompactTextAfterRepeatedRewrites() {
+        User other = user("other", 51.5, -0.1);
+        repo.save(other);
+        UserId id = UserId.generate();
+        repo.save(new User(id, "editor", profile(id, "Edit 0", 40.7, -74.0)));
+        long bytes = repo.offHeapBytes();
+
+        for (int i = 1; i <= 1_000; i++) {
+            repo.save(new User(id, "editor", profile(id, "Edit " + i, 40.7, -74.0)));
+        }
+
+        assertTrue(repo.offHeapBytes() < 3 * bytes, "text grew to " + repo.offHeapBytes());
+        assertEquals("Edit 1000", repo.findById(id).orElseThrow().getProfile().displayName());
+        assertEquals(id, repo.findByUsername("editor").orElseThrow().getId());
+        assertEquals(other.getProfile(), repo.findById(other.getId()).orElseThrow().getProfile());
+    }
+
+    @Test
+    void save_shouldOverwriteAndReleaseOldUsername() {
+        UserId id = UserId.generate();
+        repo.save(new User(id, "before", profile(id, "Before", 40.7, -74.0)));
+        repo.save(new User(id, "after", profile(id, "After", 40.7, -74.0)));
+
+        assertEquals("After", repo.findById(id).orElseThrow().getProfile().displayName());
+        assertFalse(repo.existsByUsername("before"));
+        assertEquals(id, repo.findByUsername("after").orElseThrow().getId());
+    }
+
+    @Test
+    void save_shouldRejectUsernameOfAnotherUser() {
+        repo.save(user("alice", 40.7, -74.0));
+        User impostor = user("alice", 51.5, -0.1);
+
+        assertThrows(IllegalStateException.class, () -> repo.save(impostor));
+        assertFalse(repo.existsById(impostor.getId()));
+    }
+
+    @Test
+    void findDiscoverableInRadius_shouldMatchHeapRepositoryBeyondInitialCapacity() {
+        InMemoryUserRepository heap = new InMemoryUserRepository();
+        PopulationGenerator population = new PopulationGenerator(11);
+        for (int i = 0; i < 2_000; i++) {
+            User user = population.user(i);
+            heap.save(user);
+            repo.save(user);
+        }
+        Location center = population.user(0).getProfile().location();
+
+        List<UserId> expected = ids(heap.findDiscoverableInRadius(center, Distance.ofKilometers(25), 5_000));
+        List<UserId> actual = ids(repo.findDiscoverableInRadius(center, Distance.ofKilometers(25), 5_000));
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+        assertEquals(5, repo.findDiscoverableInRadius(center, Distance.ofKilometers(25), 5).size());
+        assertTrue(repo.offHeapBytes() >= 2_000L * OffHeapUserRepository.RECORD_BYTES);
+    }
+
+    @Test
+    void findDiscoverableInRadius_withPreferenceFilter_shouldMatchHeapRepository() {
+        InMemoryUserRepository heap = new InMemoryUserRepository();
+        PopulationGenerator population = new PopulationGenerator(13);
+        for (int i = 0; i < 2_000; i++) {
+            User user = population.user(i);
+            heap.save(user);
+            repo.save(user);
+        }
+        User requester = population.user(0);
+        Location center = requester.getProfile().location();
+        PreferenceFilter filter = PreferenceFilter.forRequester(requester.getProfile(), LocalDate.now());
+
+        List<UserId> expected = ids(heap.findDiscoverableInRadius(center, Distance.ofKilometers(50), 5_000, filter));
+        List<UserId> actual = ids(repo.findDiscoverableInRadius(center, Distance.ofKilometers(50), 5_000, filter));
+
+        assertFalse(expected.isEmpty());
+        assertTrue(expected.size() < heap.findDiscoverableInRadius(center, Distance.ofKilometers(50), 5_000).size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void findDiscoverableInRadius_withExcludedIds_shouldSkipThemBeforeLimit() {
+        User first = user("first", 40.71, -74.0);
+        User second = user("second", 40.72, -74.0);
+        repo.save(first);
+        repo.save(second);
+
+        List<User> result = repo.findDiscoverableInRadius(new Location(40.7, -74.0), Distance.ofKilometers(50), 1,
+                PreferenceFilter.NONE, Set.of(first.getId()));
+
+        assertEquals(List.of(second.getId()), result.stream().map(User::getId).toList());
+    }
+
+    private static List<UserId> ids(List<User> users) {
+        return users.stream()
+                .map(User::getId)
+                .sorted(Comparator.comparing(UserId::value))
+                .toList();
+    }
+
+    private static User user(String username, double lat, double lon) {
+        UserId id = UserId.generate();
+        return new User(id, username, profile(id, username, lat, lon));
+    }
+
+    private static Profile profile(UserId id, String name, double lat, double lon) {
+        return new Profile(id, name, "Bio",
+                LocalDate.now().minusYears(25), Set.of(Interest.MUSIC),
+                null, new Location(lat, lon), List.of("photo.jpg"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.datingapp.infrastructure.persistence.profiling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import com.datingapp.IntegrationTestBase;
+import com.datingapp.domain.Swipe;
+import com.datingapp.domain.SwipeDirection;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.repository.SwipeRepository;
+
+/**
+ * Integration tests for query profiling: Hibernate statistics per query and
+ * the slow-query log with bound parameter types (threshold 0, so every statement is "slow").
+ */
+@TestPropertySource(properties = {
+        "datingapp.query-profiling.enabled=true",
+        "datingapp.query-profiling.slow-threshold=0ms"
+})
+@ExtendWith(OutputCaptureExtension.class)
+class QueryProfilingIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private QueryProfiler queryProfiler;
+
+    @Autowired
+    private SwipeRepository swipeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        queryProfiler.reset();
+    }
+
+    @Test
+    void top_shouldRankQueriesWithCountsAndRows() {
+        UserId swiper = UserId.generate();
+        for (int i = 0; i < 3; i++) {
+            swipeRepository.saveIfNotExists(Swipe.create(swiper, UserId.generate(), SwipeDirection.LIKE));
+        }
+
+        for (int i = 0; i < 4; i++) {
+            swipeRepository.findSwipedUserIds(swiper);
+        }
+
+        List<QueryProfile> top = queryProfiler.top(10);
+        QueryProfile bySwiper = top.stream()
+                .filter(profile -> profile.query().contains("swiperId") && !profile.query().contains("targetId"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("findBySwiperId missing from " + top));
+        assertEquals(4, bySwiper.executions());
+        assertEquals(12, bySwiper.rows());
+        assertTrue(bySwiper.maxMillis() <= bySwiper.totalMillis());
+        assertTrue(queryProfiler.top(1).size() <= 1);
+    }
+
+    @Test
+    void slowQueries_shouldBeLoggedWithParameterTypesOnly(CapturedOutput output) {
+        UserId swiper = UserId.generate();
+
+        swipeRepository.findSwipedUserIds(swiper);
+
+        assertInstanceOf(SlowQueryLoggingDataSource.class, dataSource);
+        assertTrue(output.getOut().contains("Slow query"));
+        assertTrue(output.getOut().contains("parameters: [UUID]"));
+        assertFalse(output.getOut().contains(swiper.value().toString()),
+                "bound swiper id should not appear in the slow-query log");
+    }
+
+    @Test
+    void slowQueries_shouldLogValuesWhenEnabled(CapturedOutput output) {
+        DataSource h2 = new DriverManagerDataSource(
+                "jdbc:h2:mem:values_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryLoggingDataSource(h2, Duration.ZERO, true));
+
+        jdbc.queryForObject("SELECT CAST(? AS VARCHAR)", String.class, "reproduce-me");
+
+        assertTrue(output.getOut().contains("parameters: [reproduce-me]"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.datingapp.infrastructure.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Uses two in-memory H2 databases as primary and replica. Each holds a marker
+ * row naming itself, so a query shows which database served it.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+
+    private AtomicLong clock;
+    private ReadYourWrites readYourWrites;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(2), 100, clock::get);
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, readYourWrites));
+
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(txManager);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplica() {
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    @Test
+    void readWriteTransaction_shouldUsePrimary() {
+        assertEquals("primary", readWrite.execute(status -> servedBy()));
+    }
+
+    @Test
+    void nonTransactionalCall_shouldUsePrimary() {
+        assertEquals("primary", servedBy());
+    }
+
+    @Test
+    void readOnlyTransaction_shouldStayOnPrimaryRightAfterUsersOwnWrite() {
+        readYourWrites.wrote(ALICE);
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertEquals("primary", readAs(ALICE));
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertEquals("replica", readAs(ALICE));
+    }
+
+    @Test
+    void readYourWrites_shouldNotPinOtherUsers() {
+        readYourWrites.wrote(ALICE);
+
+        assertEquals("replica", readAs(BOB));
+    }
+
+    @Test
+    void readYourWrites_shouldFollowUserAcrossThreads() throws InterruptedException {
+        readYourWrites.wrote(ALICE);
+
+        String[] otherThread = new String[2];
+        Thread reader = Thread.ofVirtual().start(() -> {
+            otherThread[0] = readAs(ALICE);
+            otherThread[1] = readAs(BOB);
+        });
+        reader.join();
+
+        assertEquals("primary", otherThread[0]);
+        assertEquals("replica", otherThread[1]);
+    }
+
+    @Test
+    void readYourWrites_shouldNotPinThreadsStartedDuringPinnedRead() throws InterruptedException {
+        readYourWrites.wrote(ALICE);
+        String[] forked = new String[1];
+
+        readYourWrites.read(ALICE, () -> {
+            Thread reader = Thread.ofVirtual().start(() -> forked[0] = readOnly.execute(status -> servedBy()));
+            try {
+                reader.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        assertEquals("replica", forked[0]);
+    }
+
+    private String readAs(UUID user) {
+        return readOnly.execute(status -> readYourWrites.read(user, this::servedBy));
+    }
+
+    private String servedBy() {
+        return jdbc.queryForObject("SELECT name FROM marker ORDER BY seq LIMIT 1", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE marker (seq IDENTITY, name VARCHAR(20))");
+        setup.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,134 @@
+package com.datingapp.loadgen;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.datingapp.domain.Distance;
+import com.datingapp.domain.User;
+import com.datingapp.domain.UserId;
+import com.datingapp.domain.matching.DistanceStrategy;
+import com.datingapp.domain.matching.MatchScorer;
+import com.datingapp.domain.matching.MatchingService;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryMatchRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemorySwipeRepository;
+import com.datingapp.infrastructure.persistence.inmemory.InMemoryUserRepository;
+
+class LoadGeneratorTest {
+
+    @Nested
+    class Population {
+
+        @Test
+        void sameSeed_shouldGenerateSameUsers() {
+            User first = new PopulationGenerator(7).user(123);
+            User second = new PopulationGenerator(7).user(123);
+
+            assertEquals(first.getId(), second.getId());
+            assertEquals(first.getProfile(), second.getProfile());
+            assertNotEquals(first.getId(), new PopulationGenerator(8).user(123).getId());
+        }
+
+        @Test
+        void generatedUsers_shouldBeDiscoverable() {
+            InMemoryUserRepository users = new InMemoryUserRepository();
+
+            UserId[] ids = new PopulationGenerator(1).populate(users, 50, saved -> {
+            });
+
+            assertEquals(50, ids.length);
+            assertTrue(users.findById(ids[49]).orElseThrow().canBeDiscovered());
+        }
+    }
+
+    @Nested
+    class Sampling {
+
+        @Test
+        void zipf_shouldFavourLowRanks() {
+            ZipfSampler sampler = new ZipfSampler(1000, 1.1);
+            Random random = new Random(42);
+            int[] counts = new int[1001];
+            for (int i = 0; i < 100_000; i++) {
+                counts[sampler.sample(random)]++;
+            }
+
+            assertEquals(0, counts[0]);
+            assertTrue(counts[1] > counts[2]);
+            assertTrue(counts[2] > counts[10]);
+            assertTrue(counts[1] > 10 * counts[100]);
+        }
+
+        @Test
+        void histogram_shouldReportPercentilesWithinBucketPrecision() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (int micros = 1; micros <= 10_000; micros++) {
+                histogram.recordNanos(micros * 1_000L);
+            }
+
+            assertEquals(10_000, histogram.count());
+            assertEquals(10_000, histogram.maxMicros());
+            assertEquals(5_000, histogram.percentileMicros(50), 5_000 * 0.04);
+            assertEquals(9_900, histogram.percentileMicros(99), 9_900 * 0.04);
+            assertEquals(10_000, histogram.percentileMicros(100));
+        }
+
+        @Test
+        void histogramBuckets_shouldCoverEveryValue() {
+            for (long value : List.of(0L, 63L, 64L, 65L, 127L, 128L, 1_000_000L, Long.MAX_VALUE / 2)) {
+                int index = LatencyHistogram.index(value);
+                assertTrue(LatencyHistogram.upperBound(index) >= value);
+                assertTrue(index == 0 || LatencyHistogram.upperBound(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void run_shouldDriveSessionsAndReportResults() {
+        InMemoryUserRepository users = new InMemoryUserRepository();
+        InMemorySwipeRepository swipes = new InMemorySwipeRepository();
+        MatchingService service = new MatchingService(
+                new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100)))),
+                users, swipes, new InMemoryMatchRepository(), event -> {
+                });
+        LoadSettings settings = new LoadSettings(200, 42, 200, Duration.ofMillis(500), 10, 1.1);
+        UserId[] population = new PopulationGenerator(settings.seed()).populate(users, settings.users(), saved -> {
+        });
+
+        LoadGenerator generator = new LoadGenerator(service, users, swipes);
+        LoadReport report = generator.run(population, settings);
+
+        assertEquals(0, report.errors(), () -> generator.firstError().map(Throwable::toString).orElse(""));
+        assertTrue(report.sessions() >= 90, "expected ~100 sessions, got " + report.sessions());
+        assertEquals(report.sessions(), report.discoveryLatency().count());
+        assertEquals(report.swipes(), report.swipeLatency().count());
+        assertTrue(report.swipes() > 0);
+        assertTrue(report.likes() <= report.swipes());
+        assertTrue(report.matches() <= report.likes());
+        assertTrue(report.emptySessions() <= report.sessions());
+    }
+
+    @Test
+    void run_shouldCountSessionsThatFoundNoProspects() {
+        InMemoryUserRepository users = new InMemoryUserRepository();
+        InMemorySwipeRepository swipes = new InMemorySwipeRepository();
+        MatchingService service = new MatchingService(
+                new MatchScorer(List.of(new DistanceStrategy(Distance.ofKilometers(100)))),
+                users, swipes, new InMemoryMatchRepository(), event -> {
+                });
+        // Five users run out of one another long before sixty sessions end
+        LoadSettings settings = new LoadSettings(5, 42, 200, Duration.ofMillis(300), 10, 1.1);
+        UserId[] population = new PopulationGenerator(settings.seed()).populate(users, settings.users(), saved -> {
+        });
+
+        LoadReport report = new LoadGenerator(service, users, swipes).run(population, settings);
+
+        assertTrue(report.emptySessions() > 0);
+        assertEquals((double) report.emptySessions() / report.sessions(), report.emptySessionRate());
+    }
+}